@@ -0,0 +1,50 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Single definition of the accessor signatures, shared by the facades generated at runtime (which classify the
+ * reflected methods) and the {@link pl.ais.commons.bean.facade.processor.FacadeProcessor facade annotation processor}
+ * (which classifies the methods of the compiled classes).
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+public final class AccessorSignatures {
+
+    private AccessorSignatures() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Verifies if the method of given signature is the Collection/Map element accessor ({@code get} method taking
+     * single parameter).
+     *
+     * @param name           the method name
+     * @param parameterCount the number of method parameters
+     * @return {@code true} if the method of given signature is the element accessor, {@code false} otherwise
+     */
+    public static boolean isElementAccessor(@Nonnull final String name, final int parameterCount) {
+        return (1 == parameterCount) && "get".equals(name);
+    }
+
+    /**
+     * Verifies if the method of given signature is the property accessor (parameterless {@code get*} method
+     * returning some value, or parameterless {@code is*} method returning {@code boolean}).
+     *
+     * @param name             the method name
+     * @param parameterCount   the number of method parameters
+     * @param returningVoid    indicates if the method returns {@code void}
+     * @param returningBoolean indicates if the method returns {@code boolean} (primitive)
+     * @return {@code true} if the method of given signature is the property accessor, {@code false} otherwise
+     */
+    public static boolean isPropertyAccessor(@Nonnull final String name, final int parameterCount,
+                                             final boolean returningVoid, final boolean returningBoolean) {
+        return (0 == parameterCount)
+            && (((3 < name.length()) && name.startsWith("get") && !returningVoid)
+            || ((2 < name.length()) && name.startsWith("is") && returningBoolean));
+    }
+
+}
@@ -0,0 +1,44 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Handler of the classes generated by ByteBuddy (using its default naming strategy), including Hibernate proxies,
+ * facades built over them extend the class extended by the proxy (or implement the interfaces implemented by it, if
+ * the proxy extends {@link Object}).
+ *
+ * <p>Proxy classes are recognized by their names, so ByteBuddy is not required at runtime.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+final class ByteBuddyProxyHandler implements ForeignProxyHandler {
+
+    static final ByteBuddyProxyHandler INSTANCE = new ByteBuddyProxyHandler();
+
+    private ByteBuddyProxyHandler() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("PMD.ReturnEmptyArrayRatherThanNull")
+    public Class<?>[] proxiedTypesOf(@Nonnull final Class<?> candidate) {
+        final String name = candidate.getName();
+        Class<?>[] result = null;
+        if (name.contains("$ByteBuddy$") || name.contains("$HibernateProxy$")) {
+            final Class<?> superclass = candidate.getSuperclass();
+            if (Object.class == superclass) {
+                result = candidate.getInterfaces();
+            } else if (ClassPredicates.inheritable().test(superclass)) {
+                result = new Class<?>[] {superclass};
+            }
+        }
+        return ((null == result) || (0 == result.length)) ? null : result;
+    }
+
+}
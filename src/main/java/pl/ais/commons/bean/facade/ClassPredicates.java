@@ -11,6 +11,21 @@ import java.util.function.Predicate;
  */
 final class ClassPredicates {
 
+    /**
+     * Proxyability decisions made for the classes, tagged with the {@link LeafTypes#generation() generation} of the
+     * leaf types registry they were made for.
+     */
+    private static final ClassValue<Decision> PROXYABILITY = new ClassValue<Decision>() {
+
+        @Override
+        protected Decision computeValue(final Class<?> type) {
+            final int generation = LeafTypes.generation();
+            return new Decision(generation, !LeafTypes.isLeaf(type)
+                && (ForeignProxies.isForeignProxy(type) || inheritable().and(proxyClass().negate()).test(type)));
+        }
+
+    };
+
     private ClassPredicates() {
         throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
     }
@@ -37,17 +52,50 @@ final class ClassPredicates {
     }
 
     /**
-     * @return Predicate matched by classes being CGLIB proxies
+     * @return Predicate matched by classes being CGLIB proxies, or facades generated at compile time
      */
     public static Predicate<Class<?>> proxyClass() {
-        return candidate -> Factory.class.isAssignableFrom(candidate);
+        return candidate -> Factory.class.isAssignableFrom(candidate) || GeneratedFacade.class.isAssignableFrom(candidate);
     }
 
     /**
-     * @return Predicate matched by classes being inheritable, and not proxied already
+     * Verifies if candidate class can be proxied, using the decision cached for the class, if it's still valid.
+     *
+     * @param candidate candidate class
+     * @return {@code true} if candidate class is inheritable (or the class of foreign proxies, see
+     * {@link ForeignProxyHandler}), neither proxied already, nor the leaf type
+     */
+    static boolean isProxyable(final Class<?> candidate) {
+        Decision decision = PROXYABILITY.get(candidate);
+        if (decision.generation != LeafTypes.generation()) {
+            PROXYABILITY.remove(candidate);
+            decision = PROXYABILITY.get(candidate);
+        }
+        return decision.proxyable;
+    }
+
+    /**
+     * @return Predicate matched by classes being inheritable, neither proxied already, nor being the
+     * {@link LeafTypes leaf types}
      */
     public static Predicate<Class<?>> proxyable() {
-        return inheritable().and(proxyClass().negate());
+        return ClassPredicates::isProxyable;
+    }
+
+    /**
+     * Proxyability decision made for the class.
+     */
+    private static final class Decision {
+
+        private final int generation;
+
+        private final boolean proxyable;
+
+        private Decision(final int generation, final boolean proxyable) {
+            this.generation = generation;
+            this.proxyable = proxyable;
+        }
+
     }
 
 }
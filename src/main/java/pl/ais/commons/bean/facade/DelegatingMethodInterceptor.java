@@ -1,27 +1,106 @@
 package pl.ais.commons.bean.facade;
 
+import net.sf.cglib.proxy.Dispatcher;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Optional;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 
+import static pl.ais.commons.bean.facade.ClassPredicates.is;
 import static pl.ais.commons.bean.facade.ClassPredicates.proxyable;
+import static pl.ais.commons.bean.facade.FacadeOption.SHARED;
+import static pl.ais.commons.bean.facade.MethodPredicates.publicMethod;
 
 /**
+ * Callback of the facades, intercepting the accessor calls (tracking them down, and proxying their results), and
+ * dispatching all other calls directly to the delegate. Serves both the facades generated by CGLIB, and the
+ * {@link GeneratedFacade facades generated at compile time}. Lists, sets, maps, iterators and optionals returned by
+ * the accessors are wrapped into path tracking decorators (see {@link TrackingDecorators}) instead of being proxied.
+ *
+ * <p>Interceptor can be retargeted at another delegate, the facades created for the values returned by previous
+ * delegate are kept then for reuse with the values returned by the new one. Number of the facades memoized per
+ * accessor (and kept for reuse per class) is limited, so walking large collections doesn't make the facade hold all
+ * their elements. Interceptor of the facade created with {@link FacadeOption#SHARED} option doesn't keep the facades
+ * it creates, and can be used by multiple threads.
+ *
  * @author Warlock, AIS.PL
+ * @see FacadeCallbackFilter
  * @since 1.2.1
  */
-final class DelegatingMethodInterceptor implements MethodInterceptor {
+@NotThreadSafe
+final class DelegatingMethodInterceptor implements MethodInterceptor, Dispatcher, FacadeCallback {
 
-    private final Object delegate;
+    /**
+     * Maximal number of the facades memoized per accessor, and kept for reuse per class of proxied values.
+     */
+    private static final int MEMOIZATION_LIMIT = 64;
+
+    /**
+     * Facades created for the values returned by the intercepted accessors, keyed by the accessor and value identity.
+     */
+    private Map<Method, Map<Object, Object>> children;
+
+    private Object delegate;
+
+    private TraverseListener listener;
+
+    private Set<FacadeOption> options;
+
+    /**
+     * Facades detached from the values returned by previous delegate, keyed by the class of proxied values.
+     */
+    private Map<Class<?>, Deque<Object>> spares;
 
-    private final TraverseListener listener;
+    private boolean stateCopied;
 
-    DelegatingMethodInterceptor(final Object delegate, final TraverseListener listener) {
+    DelegatingMethodInterceptor(final Object delegate, final TraverseListener listener, final Set<FacadeOption> options) {
         this.delegate = delegate;
         this.listener = listener;
+        this.options = options;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object afterAccess(final Method accessor, @Nullable final Object value) {
+        return proxyIfNeeded(accessor, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beforeAccess(final Method accessor, final Object[] args) {
+        listener.onMethodCall(delegate, accessor, args);
+    }
+
+    /**
+     * Detaches this interceptor from the delegate and listener, detaching also the facades created for the values
+     * returned by the delegate (they are kept for reuse).
+     */
+    @SuppressWarnings("PMD.NullAssignment")
+    void detach() {
+        recycleChildren();
+        delegate = null;
+        listener = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getDelegate() {
+        return delegate;
     }
 
     /**
@@ -31,19 +110,176 @@ final class DelegatingMethodInterceptor implements MethodInterceptor {
     public Object intercept(final Object proxy, final Method overridden, final Object[] args, final MethodProxy forwarder) throws Throwable {
         listener.onMethodCall(delegate, overridden, args);
 
-        // Invoke the intercepted method on delegate instance, ...
-        final Object result = overridden.invoke(delegate, args);
+        // Invoke the intercepted method on delegate instance (using CGLIB FastClass for public methods), ...
+        final Object result = MethodPredicates.is(overridden, publicMethod()) ? forwarder.invoke(delegate, args) : invokeReflectively(overridden, args);
 
         // ... and proxy the result, if possible (and needed).
-        return proxyIfNeeded(result);
+        return proxyIfNeeded(overridden, result);
+    }
+
+    /**
+     * Invokes given (non-public) method on the delegate reflectively, propagating the exception thrown by the method
+     * as is (the same way as {@link MethodProxy#invoke(Object, Object[])} used for public methods does).
+     *
+     * @param method the method to be invoked
+     * @param args   the method arguments
+     * @return the value returned by the method
+     * @throws Throwable the exception thrown by the method (or by the reflective invocation itself)
+     */
+    private Object invokeReflectively(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * @return {@code true} if the state of delegate has been copied into the facade, {@code false} otherwise
+     */
+    boolean isStateCopied() {
+        return stateCopied;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object loadObject() {
+        return delegate;
+    }
+
+    /**
+     * Tracks down the access to the element of collection/map returned by given accessor, and proxies the element,
+     * if possible (and needed).
+     *
+     * @param accessor the accessor which returned the collection/map
+     * @param key      the element index or key
+     * @param element  the element
+     * @return the facade built over given element, or the element itself
+     */
+    Object onElementAccess(final Method accessor, @Nullable final Object key, @Nullable final Object element) {
+        listener.onElementAccess(key);
+        return proxyIfNeeded(accessor, null, element);
+    }
+
+    /**
+     * Tracks down the access to the element of collection/map (pointed by given path) returned by given accessor,
+     * replacing the path recorded so far, and proxies the element, if possible (and needed).
+     *
+     * @param accessor       the accessor which returned the collection/map
+     * @param collectionPath the path to the collection/map
+     * @param key            the element index or key
+     * @param element        the element
+     * @return the facade built over given element, or the element itself
+     */
+    Object onElementAccess(final Method accessor, final PropertyPath collectionPath, @Nullable final Object key,
+                           @Nullable final Object element) {
+        listener.onElementAccess(collectionPath, key);
+        return proxyIfNeeded(accessor, null, element);
+    }
+
+    /**
+     * @return the path recorded so far by the traverse listener (relative to its base path)
+     */
+    PropertyPath currentPath() {
+        return listener.currentPath();
     }
 
-    private Object proxyIfNeeded(@Nullable final Object object) {
-        return Optional.ofNullable(object)
-                       .map(subject -> subject.getClass())
-                       .filter(proxyable())
-                       .map(subjectClass -> Facade.over(object, listener))
-                       .orElse(object);
+    private Object proxyIfNeeded(final Method accessor, @Nullable final Object object) {
+        return proxyIfNeeded(accessor, accessor.getReturnType(), object);
+    }
+
+    /**
+     * Proxies given value, if possible (and needed).
+     *
+     * @param accessor     the accessor which returned the value (or the collection/map containing the value)
+     * @param declaredType the type declared by the accessor, {@code null} for the element of collection/map
+     * @param object       the value to be proxied
+     * @return the facade (or path tracking decorator) built over given value, or the value itself
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    Object proxyIfNeeded(final Method accessor, @Nullable final Class<?> declaredType, @Nullable final Object object) {
+        Object result = object;
+        if (null != object) {
+            final boolean decorated = TrackingDecorators.isApplicable(declaredType, object);
+            if (options.contains(SHARED)) {
+
+                // Facade shared by multiple threads doesn't memoize the facades it creates, ...
+                if (decorated) {
+                    result = TrackingDecorators.decorate(this, accessor, object);
+                } else if (is(object.getClass(), proxyable())) {
+                    result = Facade.over(object, listener, options);
+                }
+            } else if (decorated || is(object.getClass(), proxyable())) {
+
+                // ... other facades reuse the facade created already for the value returned by the same accessor, ...
+                if (null == children) {
+                    children = new HashMap<>();
+                }
+                final Map<Object, Object> facades = children.computeIfAbsent(accessor, key -> new IdentityHashMap<>());
+                result = facades.get(object);
+                if (null == result) {
+
+                    // ... or retarget the spare facade, or create new one (decorators are cheap, so they're not reused).
+                    if (decorated) {
+                        result = TrackingDecorators.decorate(this, accessor, object);
+                    } else {
+                        final Deque<Object> candidates = (null == spares) ? null : spares.get(object.getClass());
+                        final Object spare = (null == candidates) ? null : candidates.poll();
+                        result = (null == spare) ? Facade.over(object, listener, options) : Facade.retarget(spare, object, listener, options);
+                    }
+                    if (MEMOIZATION_LIMIT > facades.size()) {
+                        facades.put(object, result);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    private void recycleChildren() {
+        if (null != children) {
+            for (final Map<Object, Object> facades : children.values()) {
+                for (final Map.Entry<Object, Object> entry : facades.entrySet()) {
+                    final Object facade = entry.getValue();
+                    if (!TrackingDecorators.isDecorator(facade)) {
+                        if (null == spares) {
+                            spares = new HashMap<>();
+                        }
+                        Facade.detach(facade);
+                        final Deque<Object> candidates = spares.computeIfAbsent(entry.getKey().getClass(), key -> new ArrayDeque<>());
+                        if (MEMOIZATION_LIMIT > candidates.size()) {
+                            candidates.push(facade);
+                        }
+                    }
+                }
+                facades.clear();
+            }
+        }
+    }
+
+    /**
+     * Retargets this interceptor at given delegate, listener and options.
+     *
+     * @param delegate the new delegate
+     * @param listener the new property traverse listener
+     * @param options  the new facade options
+     */
+    @SuppressWarnings("hiding")
+    void retarget(final Object delegate, final TraverseListener listener, final Set<FacadeOption> options) {
+        recycleChildren();
+        this.delegate = delegate;
+        this.listener = listener;
+        this.options = options;
+    }
+
+    /**
+     * @param stateCopied indicates if the state of delegate has been copied into the facade
+     */
+    void setStateCopied(final boolean stateCopied) {
+        this.stateCopied = stateCopied;
     }
 
 }
@@ -1,16 +1,27 @@
 package pl.ais.commons.bean.facade;
 
-import net.sf.cglib.proxy.Callback;
-import net.sf.cglib.proxy.Enhancer;
-import org.objenesis.ObjenesisHelper;
+import net.sf.cglib.proxy.Factory;
+import pl.ais.commons.bean.facade.ProxyClassCache.ProxyClass;
 
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static pl.ais.commons.bean.facade.ClassPredicates.inheritable;
 import static pl.ais.commons.bean.facade.ClassPredicates.is;
-import static pl.ais.commons.bean.facade.FieldPredicates.staticField;
+import static pl.ais.commons.bean.facade.ClassPredicates.proxyClass;
+import static pl.ais.commons.bean.facade.FacadeCallbackFilter.INTERCEPTING;
+import static pl.ais.commons.bean.facade.FacadeOption.DELEGATE_ONLY;
+import static pl.ais.commons.bean.facade.FieldCopier.copierFor;
+import static pl.ais.commons.bean.facade.ProxyClassCache.prepare;
+import static pl.ais.commons.bean.facade.ProxyClassCache.proxyClassFor;
+import static pl.ais.commons.bean.facade.ProxyClassCache.proxyableClassesReachableFrom;
 
 /**
  * Provides set of methods usable for creating facades.
@@ -21,72 +32,230 @@ import static pl.ais.commons.bean.facade.FieldPredicates.staticField;
 @Immutable
 public final class Facade {
 
+    private static final Set<FacadeOption> NO_OPTIONS = Collections.unmodifiableSet(EnumSet.noneOf(FacadeOption.class));
+
     private Facade() {
         throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
     }
 
-    @SuppressWarnings("PMD.EmptyCatchBlock")
-    private static <T> void copyFieldsDeclaredBy(final @Nonnull T instance, final T proxy) {
-
-        // For each field declared by instance class, except the static fields, ...
-        final Class<?> instanceClass = instance.getClass();
-        Arrays.stream(instanceClass.getDeclaredFields())
-              .filter(staticField().negate())
-              .forEachOrdered(field ->
-              {
-                  try {
-                      // ... try to copy value from the instance to proxy.
-                      field.setAccessible(true);
-                      field.set(proxy, field.get(instance));
-                  } catch (final IllegalAccessException | IllegalArgumentException exception) {
-                      // Ignore ...
-                  }
-              });
+    /**
+     * Detaches given facade from the instance it was built over (and from its traverse listener), resetting
+     * the facade state, to prepare it for being retargeted later.
+     *
+     * @param facade the facade to be detached
+     */
+    static void detach(@Nonnull final Object facade) {
+        final DelegatingMethodInterceptor interceptor = interceptorOf(facade);
+        interceptor.detach();
+        if (interceptor.isStateCopied()) {
+            copierFor(facade.getClass().getSuperclass()).clear(facade);
+            interceptor.setStateCopied(false);
+        }
     }
 
-    private static <T> Class[] determineInterfaces(final Class<T> aClass) {
-        final Class<?>[] interfaces = aClass.getInterfaces();
-        return aClass.isInterface() ? new Class[] {aClass} : (0 == interfaces.length ? null : interfaces);
+    private static DelegatingMethodInterceptor interceptorOf(final Object facade) {
+        Object callback = null;
+        if (facade instanceof GeneratedFacade) {
+            callback = ((GeneratedFacade) facade).getFacadeCallback();
+        } else if (facade instanceof Factory) {
+            callback = ((Factory) facade).getCallback(INTERCEPTING);
+        }
+        if (!(callback instanceof DelegatingMethodInterceptor)) {
+            throw new IllegalArgumentException("Object of " + facade.getClass() + " is not a facade.");
+        }
+        return (DelegatingMethodInterceptor) callback;
     }
 
-    private static <T> Class<? super T> determineSuperclass(@Nonnull final Class<T> candidate) {
-        return is(candidate, inheritable()) ? candidate : determineSuperclass(candidate.getSuperclass());
+    /**
+     * Converts given options into the set of options.
+     *
+     * @param options the options
+     * @return set of given options
+     */
+    static Set<FacadeOption> optionsOf(final FacadeOption... options) {
+        final Set<FacadeOption> result;
+        if (0 == options.length) {
+            result = NO_OPTIONS;
+        } else {
+            result = EnumSet.noneOf(FacadeOption.class);
+            result.addAll(Arrays.asList(options));
+        }
+        return result;
     }
 
     /**
      * Creates and returns the facade (proxy) built over given instance of class {@literal T}.
      *
+     * <p>Facade class generated at compile time is used for the instances of classes annotated with {@link Facaded},
+     * if available, facade class is generated by CGLIB otherwise. Proxies created by other libraries (like ORM lazy
+     * loading proxies) are either unwrapped, or proxied without copying their state (see {@link ForeignProxyHandler}).
+     *
      * @param instance instance to be proxied
      * @param listener property traverse listener to be used for the facade
      * @param <S>      superclass of {@literal T} which will be extended by the facade
      * @param <T>      type of the instance to be proxied
      * @return newly created facade (proxy) build over given instance of class {@literal T}
      */
-    @SuppressWarnings("unchecked")
     public static <S, T extends S> S over(@Nonnull final T instance, final TraverseListener listener) {
+        return over(instance, listener, NO_OPTIONS);
+    }
 
-        // Create CGLIB Enhancer using the instance class as superclass of the proxy we intend to create, ...
+    /**
+     * Creates and returns the facade (proxy) built over given instance of class {@literal T}, using given options.
+     *
+     * @param instance instance to be proxied
+     * @param listener property traverse listener to be used for the facade
+     * @param options  options affecting the way facade is created (applied also to the nested facades)
+     * @param <S>      superclass of {@literal T} which will be extended by the facade
+     * @param <T>      type of the instance to be proxied
+     * @return newly created facade (proxy) build over given instance of class {@literal T}
+     */
+    public static <S, T extends S> S over(@Nonnull final T instance, final TraverseListener listener,
+                                          final FacadeOption... options) {
+        return over(instance, listener, optionsOf(options));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S, T extends S> S over(@Nonnull final T object, final TraverseListener listener,
+                                   final Set<FacadeOption> options) {
+
+        // Unwrap the foreign proxy, if possible, obtain the (cached) proxy class for the instance class, create its
+        // instance, ...
+        final T instance = (T) ForeignProxies.unwrap(object);
         final Class<T> instanceClass = (Class<T>) instance.getClass();
-        final Class<? super T> superclass = determineSuperclass(instanceClass);
-        final Enhancer enhancer = new Enhancer();
-        enhancer.setSuperclass(superclass);
+        final ProxyClass<T> proxyClass = proxyClassFor(instanceClass);
+        final DelegatingMethodInterceptor interceptor = new DelegatingMethodInterceptor(instance, listener, options);
+        final T proxy = proxyClass.newInstance(interceptor);
+        if (FacadeMetrics.isInstanceMetricsEnabled()) {
+            FacadeMetrics.instanceCreated();
+        }
+
+        // ... and copy the instance state into it, if needed.
+        transferState(proxyClass, instance, proxy, interceptor, options);
+        return proxy;
+    }
+
+    /**
+     * Provides the instance given facade (or the collection/map returned by the facade) has been built over.
+     *
+     * <p>Lists, sets, maps and iterators returned by the facade accessors track down the access to their elements,
+     * and provide the facades built over them, this method allows accessing the elements directly, if needed.
+     *
+     * @param object the facade, or the collection/map returned by the facade
+     * @param <T>    type of given object
+     * @return the instance given object has been built over, or given object itself, if it's neither facade, nor the
+     * collection/map returned by the facade
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T unwrap(@Nonnull final T object) {
+        T result = object;
+        if (object instanceof TrackingDecorator) {
+            result = (T) ((TrackingDecorator<?>) object).getDelegate();
+        } else if (is(object.getClass(), proxyClass())) {
+            result = (T) interceptorOf(object).getDelegate();
+        }
+        return result;
+    }
 
-        // ... specify set of interfaces to be implemented by the proxy, ...
-        enhancer.setInterfaces(determineInterfaces(instanceClass));
+    /**
+     * Prepares (generates and caches) the proxy classes and field copiers for all the classes which instances can be
+     * proxied by the facades built over the instances of given classes, to avoid paying for it on first use.
+     *
+     * @param roots the classes to start from (usually the classes of validated beans)
+     * @return the prewarming summary
+     * @see #prewarm(Executor, Class[])
+     */
+    public static PrewarmReport prewarm(@Nonnull final Class<?>... roots) {
+        return prewarm(Runnable::run, roots);
+    }
 
-        // ... define the type of callback to be used, ...
-        enhancer.setCallbackType(DelegatingMethodInterceptor.class);
+    /**
+     * Prepares (generates and caches) the proxy classes and field copiers for all the classes which instances can be
+     * proxied by the facades built over the instances of given classes, using given executor.
+     *
+     * <p>Classes reachable from given classes are determined by walking the (non-final) accessor return types,
+     * including type arguments of generic return types, like collection element types. Proxy classes are prepared
+     * only for the concrete classes found this way, matching the same rules as used for the accessor results.
+     *
+     * @param executor the executor used for preparing the proxy classes (in parallel, if supported by the executor)
+     * @param roots    the classes to start from (usually the classes of validated beans)
+     * @return the prewarming summary
+     */
+    public static PrewarmReport prewarm(@Nonnull final Executor executor, @Nonnull final Class<?>... roots) {
+        final long start = System.nanoTime();
 
-        // ... and created the proxied class (skipping creating the instance for now).
-        final Class<T> proxiedClass = enhancer.createClass();
+        // Determine the classes reachable from given ones, and prepare the proxy classes for them.
+        final Set<Class<?>> classes = proxyableClassesReachableFrom(roots);
+        final AtomicInteger generatedClassCount = new AtomicInteger();
+        CompletableFuture.allOf(classes.stream()
+                                       .map(type -> CompletableFuture.runAsync(() -> {
+                                           if (prepare(type)) {
+                                               generatedClassCount.incrementAndGet();
+                                           }
+                                       }, executor))
+                                       .toArray(CompletableFuture[]::new))
+                         .join();
+        return new PrewarmReport(classes.size(), generatedClassCount.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
 
-        // Now prepare to create an instance of the proxied class, register callbacks and the class loader, ...
-        Enhancer.registerCallbacks(proxiedClass, new Callback[] {new DelegatingMethodInterceptor(instance, listener)});
+    /**
+     * Retargets given facade at another instance (of the class for which the facade has been built) and listener.
+     *
+     * <p>Retargeting allows reusing the facade (together with the facades created by it for the values returned
+     * from the accessors) instead of creating new one. Facades returned by the accessors of retargeted facade before
+     * should not be used anymore.
+     *
+     * @param facade   the facade to be retargeted
+     * @param instance the instance to be proxied
+     * @param listener property traverse listener to be used for the facade
+     * @param options  options affecting the way facade is created (applied also to the nested facades)
+     * @param <F>      type of the facade
+     * @return the retargeted facade
+     * @throws IllegalArgumentException if given object is not a facade, or cannot be used for proxying given instance
+     */
+    public static <F> F retarget(@Nonnull final F facade, @Nonnull final Object instance,
+                                 final TraverseListener listener, final FacadeOption... options) {
+        return retarget(facade, instance, listener, optionsOf(options));
+    }
 
-        // ... and do the dirty work.
-        final T proxy = ObjenesisHelper.newInstance(proxiedClass);
-        copyFieldsDeclaredBy(instance, proxy);
-        return proxy;
+    static <F> F retarget(@Nonnull final F facade, @Nonnull final Object object,
+                          final TraverseListener listener, final Set<FacadeOption> options) {
+
+        // Verify if the facade can be used for proxying given instance (unwrapping the foreign proxy, if possible), ...
+        final Object instance = ForeignProxies.unwrap(object);
+        final ProxyClass<?> proxyClass = proxyClassFor(instance.getClass());
+        if (proxyClass.getType() != facade.getClass()) {
+            throw new IllegalArgumentException("Facade of " + facade.getClass() + " cannot be used for proxying " + instance.getClass());
+        }
+
+        // ... retarget it, and copy the instance state into it, if needed.
+        final DelegatingMethodInterceptor interceptor = interceptorOf(facade);
+        interceptor.retarget(instance, listener, options);
+        transferState(proxyClass, instance, facade, interceptor, options);
+        return facade;
+    }
+
+    private static void transferState(final ProxyClass<?> proxyClass, final Object instance, final Object proxy,
+                                      final DelegatingMethodInterceptor interceptor, final Set<FacadeOption> options) {
+
+        // Copy the instance state (declared by the proxy superclasses) into the proxy, if needed (never copying the
+        // state of foreign proxies, which could force their initialization), ...
+        final FieldCopier copier = copierFor(proxyClass.getType().getSuperclass());
+        if (!proxyClass.isDelegating() && (proxyClass.isStateful() || !options.contains(DELEGATE_ONLY))) {
+            if (FacadeMetrics.isInstanceMetricsEnabled()) {
+                final long start = System.nanoTime();
+                copier.copy(instance, proxy);
+                FacadeMetrics.fieldsCopied(System.nanoTime() - start);
+            } else {
+                copier.copy(instance, proxy);
+            }
+            interceptor.setStateCopied(true);
+        } else if (interceptor.isStateCopied()) {
+
+            // ... or reset the proxy state copied from the previous instance.
+            copier.clear(proxy);
+            interceptor.setStateCopied(false);
+        }
     }
 
 }
@@ -0,0 +1,42 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+
+/**
+ * Callback used by the {@link GeneratedFacade generated facades} for tracking down the accessor calls, and for
+ * dispatching all the calls to the proxied instance.
+ *
+ * <p>It's the part of contract between the facade classes generated at compile time and the facade runtime, not
+ * intended to be used by the application code.
+ *
+ * @author Warlock, AIS.PL
+ * @see Facaded
+ * @since 1.4.3
+ */
+public interface FacadeCallback {
+
+    /**
+     * Notifies the callback about the accessor call, which is going to be delegated to the proxied instance.
+     *
+     * @param accessor the accessor being called
+     * @param args     the accessor call arguments
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    void beforeAccess(Method accessor, Object[] args);
+
+    /**
+     * Notifies the callback about the value returned by the proxied instance accessor.
+     *
+     * @param accessor the accessor which returned the value
+     * @param value    the value returned by the accessor
+     * @return the value which should be returned by the facade (the facade built over the value, if possible)
+     */
+    Object afterAccess(Method accessor, @Nullable Object value);
+
+    /**
+     * @return the instance proxied by the facade
+     */
+    Object getDelegate();
+
+}
@@ -0,0 +1,61 @@
+package pl.ais.commons.bean.facade;
+
+import net.sf.cglib.proxy.CallbackFilter;
+
+import javax.annotation.concurrent.Immutable;
+import java.lang.reflect.Method;
+
+/**
+ * Callback filter used by the facades, selecting the callback used for given method.
+ *
+ * <p>Property accessors and Collection/Map element accessors are intercepted (their calls are tracked down by
+ * {@link TraverseListener}, and the results are proxied if needed), all other methods are dispatched directly to the
+ * proxied instance.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+final class FacadeCallbackFilter implements CallbackFilter {
+
+    /**
+     * Index of the callback dispatching the method call to the proxied instance.
+     */
+    static final int DISPATCHING = 1;
+
+    static final FacadeCallbackFilter INSTANCE = new FacadeCallbackFilter();
+
+    /**
+     * Index of the callback intercepting the method call.
+     */
+    static final int INTERCEPTING = 0;
+
+    private FacadeCallbackFilter() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int accept(final Method method) {
+        return MethodInfo.of(method).isIntercepted() ? INTERCEPTING : DISPATCHING;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        return (this == object) || (object instanceof FacadeCallbackFilter);
+    }
+
+    /**
+     * @return a hash code value for this filter
+     */
+    @Override
+    public int hashCode() {
+        return FacadeCallbackFilter.class.hashCode();
+    }
+
+}
@@ -0,0 +1,363 @@
+package pl.ais.commons.bean.facade;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates (using ASM) the bytecode of facade classes equivalent to the ones generated at compile time for the
+ * classes annotated with {@link Facaded}, to be defined at runtime as the hidden classes (see {@link HiddenClasses}).
+ *
+ * <p>Generated class extends given class, and implements {@link GeneratedFacade}, its accessors are resolved once
+ * (by the static initializer), and neither the class itself, nor its static initializer refer to it by name, so it
+ * can be defined as the hidden class.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+final class FacadeClassGenerator implements Opcodes {
+
+    private static final String CALLBACK = "facade$callback";
+
+    private static final String CALLBACK_DESCRIPTOR = Type.getDescriptor(FacadeCallback.class);
+
+    private static final String CALLBACK_TYPE = Type.getInternalName(FacadeCallback.class);
+
+    private static final String METHOD_DESCRIPTOR = Type.getDescriptor(Method.class);
+
+    private static final String NO_ARGUMENTS = "NO_ARGUMENTS";
+
+    private FacadeClassGenerator() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Verifies if given bridge method only makes the method inherited from non-public superclass accessible (such
+     * method invokes the bridged one non-virtually, so it has to be overridden by the facade).
+     */
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private static boolean isVisibilityBridge(final Method bridge) {
+        boolean result = false;
+        for (Class<?> current = bridge.getDeclaringClass().getSuperclass(); !result && (null != current); current = current.getSuperclass()) {
+            try {
+                final Method bridged = current.getDeclaredMethod(bridge.getName(), bridge.getParameterTypes());
+                result = !bridged.isBridge() && (bridge.getReturnType() == bridged.getReturnType());
+            } catch (final NoSuchMethodException exception) {
+                // Bridged method is declared by another superclass (if any).
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Determines the methods to be overridden by the facade (public, non-final, non-static ones, avoiding the
+     * duplicates inherited from the interfaces and the bridge methods, except the visibility bridges).
+     */
+    private static List<Method> overriddenMethods(final Class<?> superclass) {
+        final Map<String, Method> methods = new LinkedHashMap<>();
+        for (final Method method : superclass.getMethods()) {
+            if (!method.isBridge() || isVisibilityBridge(method)) {
+                final String signature = method.getName() + Type.getMethodDescriptor(method);
+                final Method previous = methods.get(signature);
+                if ((null == previous) || (previous.getDeclaringClass().isInterface() && !method.getDeclaringClass().isInterface())) {
+                    methods.put(signature, method);
+                }
+            }
+        }
+        final List<Method> result = new ArrayList<>();
+        for (final Method method : methods.values()) {
+            final int modifiers = method.getModifiers();
+            if (!Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers)) {
+                result.add(method);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Generates the bytecode of facade class extending given class.
+     *
+     * @param superclass the class to be extended by the facade (public or protected, non-final class)
+     * @param name       the binary name of generated class (in the same package as given class)
+     * @return the bytecode of facade class
+     */
+    static byte[] generate(@Nonnull final Class<?> superclass, @Nonnull final String name) {
+        final String type = name.replace('.', '/');
+        final String superType = Type.getInternalName(superclass);
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_SUPER | ACC_SYNTHETIC, type, null, superType,
+            new String[] {Type.getInternalName(GeneratedFacade.class)});
+
+        // Determine the methods to be overridden, and the accessors among them, ...
+        final List<Method> methods = overriddenMethods(superclass);
+        final Map<Method, String> constants = new LinkedHashMap<>();
+        for (final Method method : methods) {
+            if (MethodInfo.of(method).isIntercepted()) {
+                constants.put(method, "METHOD_" + constants.size());
+            }
+        }
+
+        // ... declare the constants, and resolve them, ...
+        writer.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, NO_ARGUMENTS, "[Ljava/lang/Object;", null, null).visitEnd();
+        for (final String constant : constants.values()) {
+            writer.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, constant, METHOD_DESCRIPTOR, null, null).visitEnd();
+        }
+        generateStaticInitializer(writer, type, superType, constants);
+
+        // ... declare the callback, ...
+        writer.visitField(ACC_PRIVATE, CALLBACK, CALLBACK_DESCRIPTOR, null, null).visitEnd();
+        generateCallbackAccessors(writer, type);
+
+        // ... and override the methods.
+        for (final Method method : methods) {
+            generateMethod(writer, type, superType, method, constants.get(method));
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void generateCallbackAccessors(final ClassWriter writer, final String type) {
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, "getFacadeCallback", "()" + CALLBACK_DESCRIPTOR, null, null);
+        visitor.visitCode();
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitFieldInsn(GETFIELD, type, CALLBACK, CALLBACK_DESCRIPTOR);
+        visitor.visitInsn(ARETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        visitor = writer.visitMethod(ACC_PUBLIC, "setFacadeCallback", '(' + CALLBACK_DESCRIPTOR + ")V", null, null);
+        visitor.visitCode();
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitFieldInsn(PUTFIELD, type, CALLBACK, CALLBACK_DESCRIPTOR);
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void generateMethod(final ClassWriter writer, final String type, final String superType,
+                                       final Method method, final String constant) {
+        final String descriptor = Type.getMethodDescriptor(method);
+        final Class<?>[] exceptions = method.getExceptionTypes();
+        final String[] exceptionTypes = new String[exceptions.length];
+        for (int index = 0; index < exceptions.length; index++) {
+            exceptionTypes[index] = Type.getInternalName(exceptions[index]);
+        }
+        final MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC | (method.isVarArgs() ? ACC_VARARGS : 0),
+            method.getName(), descriptor, null, exceptionTypes);
+        visitor.visitCode();
+
+        // Store the callback in local variable, ...
+        final Type[] argumentTypes = Type.getArgumentTypes(descriptor);
+        int callback = 1;
+        for (final Type argumentType : argumentTypes) {
+            callback += argumentType.getSize();
+        }
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitFieldInsn(GETFIELD, type, CALLBACK, CALLBACK_DESCRIPTOR);
+        visitor.visitVarInsn(ASTORE, callback);
+
+        // ... track down the accessor call, ...
+        if (null != constant) {
+            visitor.visitVarInsn(ALOAD, callback);
+            visitor.visitFieldInsn(GETSTATIC, type, constant, METHOD_DESCRIPTOR);
+            if (0 == argumentTypes.length) {
+                visitor.visitFieldInsn(GETSTATIC, type, NO_ARGUMENTS, "[Ljava/lang/Object;");
+            } else {
+                pushArguments(visitor, argumentTypes);
+            }
+            visitor.visitMethodInsn(INVOKEINTERFACE, CALLBACK_TYPE, "beforeAccess",
+                '(' + METHOD_DESCRIPTOR + "[Ljava/lang/Object;)V", true);
+        }
+
+        // ... delegate the call to proxied instance, ...
+        final Type returnType = Type.getReturnType(descriptor);
+        final boolean afterAccess = (null != constant) && (Type.OBJECT == returnType.getSort() || Type.ARRAY == returnType.getSort());
+        if (afterAccess) {
+            visitor.visitVarInsn(ALOAD, callback);
+            visitor.visitFieldInsn(GETSTATIC, type, constant, METHOD_DESCRIPTOR);
+        }
+        visitor.visitVarInsn(ALOAD, callback);
+        visitor.visitMethodInsn(INVOKEINTERFACE, CALLBACK_TYPE, "getDelegate", "()Ljava/lang/Object;", true);
+        visitor.visitTypeInsn(CHECKCAST, superType);
+        int slot = 1;
+        for (final Type argumentType : argumentTypes) {
+            visitor.visitVarInsn(argumentType.getOpcode(ILOAD), slot);
+            slot += argumentType.getSize();
+        }
+        visitor.visitMethodInsn(INVOKEVIRTUAL, superType, method.getName(), descriptor, false);
+
+        // ... and proxy the result (if needed).
+        if (afterAccess) {
+            visitor.visitMethodInsn(INVOKEINTERFACE, CALLBACK_TYPE, "afterAccess",
+                '(' + METHOD_DESCRIPTOR + "Ljava/lang/Object;)Ljava/lang/Object;", true);
+            visitor.visitTypeInsn(CHECKCAST, returnType.getInternalName());
+        }
+        visitor.visitInsn(returnType.getOpcode(IRETURN));
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void generateStaticInitializer(final ClassWriter writer, final String type, final String superType,
+                                                  final Map<Method, String> constants) {
+        final MethodVisitor visitor = writer.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+        visitor.visitCode();
+        visitor.visitInsn(ICONST_0);
+        visitor.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+        visitor.visitFieldInsn(PUTSTATIC, type, NO_ARGUMENTS, "[Ljava/lang/Object;");
+
+        // Resolve the accessors (NoSuchMethodException thrown here results in ExceptionInInitializerError).
+        for (final Map.Entry<Method, String> entry : constants.entrySet()) {
+            final Method method = entry.getKey();
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            visitor.visitLdcInsn(Type.getObjectType(superType));
+            visitor.visitLdcInsn(method.getName());
+            pushInt(visitor, parameterTypes.length);
+            visitor.visitTypeInsn(ANEWARRAY, "java/lang/Class");
+            for (int index = 0; index < parameterTypes.length; index++) {
+                visitor.visitInsn(DUP);
+                pushInt(visitor, index);
+                pushClass(visitor, parameterTypes[index]);
+                visitor.visitInsn(AASTORE);
+            }
+            visitor.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "getMethod",
+                "(Ljava/lang/String;[Ljava/lang/Class;)" + METHOD_DESCRIPTOR, false);
+            visitor.visitFieldInsn(PUTSTATIC, type, entry.getValue(), METHOD_DESCRIPTOR);
+        }
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    /**
+     * Pushes the array of (boxed) method arguments onto the stack.
+     */
+    private static void pushArguments(final MethodVisitor visitor, final Type... argumentTypes) {
+        pushInt(visitor, argumentTypes.length);
+        visitor.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+        int slot = 1;
+        for (int index = 0; index < argumentTypes.length; index++) {
+            final Type argumentType = argumentTypes[index];
+            visitor.visitInsn(DUP);
+            pushInt(visitor, index);
+            visitor.visitVarInsn(argumentType.getOpcode(ILOAD), slot);
+            if (Type.OBJECT != argumentType.getSort() && Type.ARRAY != argumentType.getSort()) {
+                final Type boxed = boxedTypeOf(argumentType);
+                visitor.visitMethodInsn(INVOKESTATIC, boxed.getInternalName(), "valueOf",
+                    Type.getMethodDescriptor(boxed, argumentType), false);
+            }
+            visitor.visitInsn(AASTORE);
+            slot += argumentType.getSize();
+        }
+    }
+
+    private static Type boxedTypeOf(final Type primitiveType) {
+        final Class<?>[] boxedTypes = {Void.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Float.class, Long.class, Double.class};
+        return Type.getType(boxedTypes[primitiveType.getSort()]);
+    }
+
+    private static void pushClass(final MethodVisitor visitor, final Class<?> type) {
+        if (type.isPrimitive()) {
+            visitor.visitFieldInsn(GETSTATIC, boxedTypeOf(Type.getType(type)).getInternalName(), "TYPE", "Ljava/lang/Class;");
+        } else {
+            visitor.visitLdcInsn(Type.getType(type));
+        }
+    }
+
+    private static void pushInt(final MethodVisitor visitor, final int value) {
+        if (value <= 5) {
+            visitor.visitInsn(ICONST_0 + value);
+        } else {
+            visitor.visitIntInsn(value <= Byte.MAX_VALUE ? BIPUSH : SIPUSH, value);
+        }
+    }
+
+    /**
+     * Verifies if given type can be referred to by the facade class extending given class.
+     */
+    private static boolean isAccessible(final Class<?> type, final Class<?> superclass) {
+        Class<?> component = type;
+        while (component.isArray()) {
+            component = component.getComponentType();
+        }
+        final int modifiers = component.getModifiers();
+        return component.isPrimitive() || Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)
+            || (!Modifier.isPrivate(modifiers) && (component.getClassLoader() == superclass.getClassLoader())
+            && packageNameOf(component).equals(packageNameOf(superclass)));
+    }
+
+    private static String packageNameOf(final Class<?> type) {
+        final String name = type.getName();
+        final int index = name.lastIndexOf('.');
+        return (-1 == index) ? "" : name.substring(0, index);
+    }
+
+    /**
+     * Verifies if given class (or any of its superclasses) declares non-public accessors, which would be intercepted
+     * by the facade generated by CGLIB, but are not overridden by the generated facade (it overrides public methods
+     * only).
+     */
+    private static boolean declaresNonPublicAccessors(final Class<?> candidate) {
+        boolean result = false;
+        for (Class<?> current = candidate; !result && (null != current) && (Object.class != current); current = current.getSuperclass()) {
+            for (final Method method : current.getDeclaredMethods()) {
+                final int modifiers = method.getModifiers();
+                if (!result && !method.isBridge() && !Modifier.isPublic(modifiers) && !Modifier.isPrivate(modifiers)
+                    && !Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers) && MethodInfo.of(method).isIntercepted()) {
+                    result = !isOverriddenPublicly(candidate, method);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isOverriddenPublicly(final Class<?> candidate, final Method method) {
+        boolean result;
+        try {
+            candidate.getMethod(method.getName(), method.getParameterTypes());
+            result = true;
+        } catch (final NoSuchMethodException exception) {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Verifies if the facade class can be generated for given class.
+     *
+     * <p>Classes declaring non-public accessors are not supported, so their facades are generated by CGLIB, which
+     * intercepts such accessors too.
+     *
+     * @param candidate the class to be verified
+     * @return {@code true} if the facade class can be generated for given class, {@code false} otherwise
+     */
+    static boolean supports(@Nonnull final Class<?> candidate) {
+        boolean result = !candidate.isInterface() && !candidate.isArray() && !candidate.isPrimitive()
+            && ClassPredicates.inheritable().test(candidate) && !declaresNonPublicAccessors(candidate);
+
+        // Types used by the accessors are referred to by the facade class directly, they have to be accessible.
+        for (final Method method : candidate.getMethods()) {
+            if (result && !Modifier.isFinal(method.getModifiers()) && !Modifier.isStatic(method.getModifiers())
+                && MethodInfo.of(method).isIntercepted()) {
+                result = isAccessible(method.getReturnType(), candidate);
+                for (final Class<?> parameterType : method.getParameterTypes()) {
+                    result &= isAccessible(parameterType, candidate);
+                }
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,232 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the facades: number of proxy classes generated (per proxied class), time spent on generating them,
+ * and their estimated size, number of facades created, and time spent on copying the state into them.
+ *
+ * <p>Metrics of the proxy classes are always collected (proxy class is generated once per proxied class). Metrics
+ * of the facade instances (including proxy class lookups) are collected only when
+ * {@link #setInstanceMetricsEnabled(boolean) enabled}, to avoid paying for them on each facade creation. Metrics can
+ * be obtained as the {@link #snapshot() snapshot}, or through JMX, once the {@link #registerMBean() MBean is
+ * registered} (registering the MBean doesn't enable the metrics of facade instances).
+ *
+ * <p>Generated proxy classes are counted per proxied class, not per the root type of the facade, because the proxy
+ * class is shared by all the facades reaching the proxied class, and it's generated when the class is reached for
+ * the first time, so it cannot be attributed to the single root type. Proxied classes reachable from given root type
+ * can be determined by {@link Facade#prewarm(Class[]) prewarming} the facades of this type.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+public final class FacadeMetrics {
+
+    private static final LongAdder CLASS_BYTES = new LongAdder();
+
+    private static final LongAdder CLASS_COUNT = new LongAdder();
+
+    private static final ConcurrentMap<String, LongAdder> CLASSES_PER_TYPE = new ConcurrentHashMap<>();
+
+    private static final LongAdder COPY_NANOS = new LongAdder();
+
+    private static final LongAdder GENERATION_NANOS = new LongAdder();
+
+    private static final LongAdder INSTANCE_COUNT = new LongAdder();
+
+    private static final LongAdder LOOKUP_COUNT = new LongAdder();
+
+    /**
+     * Name of the MBean exposing the metrics.
+     */
+    public static final String MBEAN_NAME = "pl.ais.commons.bean:type=FacadeMetrics";
+
+    private static volatile boolean instanceMetricsEnabled;
+
+    private FacadeMetrics() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Records the proxy class generation.
+     *
+     * @param proxiedClass the proxied class
+     * @param nanos        time spent on generating the proxy class
+     * @param bytes        size of generated proxy class
+     */
+    static void classGenerated(@Nonnull final Class<?> proxiedClass, final long nanos, final int bytes) {
+        CLASS_COUNT.increment();
+        GENERATION_NANOS.add(nanos);
+        CLASS_BYTES.add(bytes);
+        CLASSES_PER_TYPE.computeIfAbsent(proxiedClass.getName(), key -> new LongAdder())
+                        .increment();
+    }
+
+    /**
+     * Records the state of proxied instance being copied into the facade.
+     *
+     * @param nanos time spent on copying the state
+     */
+    static void fieldsCopied(final long nanos) {
+        COPY_NANOS.add(nanos);
+    }
+
+    /**
+     * Records the facade instance creation.
+     */
+    static void instanceCreated() {
+        INSTANCE_COUNT.increment();
+    }
+
+    /**
+     * @return {@code true} if the metrics of facade instances are collected, {@code false} otherwise
+     */
+    public static boolean isInstanceMetricsEnabled() {
+        return instanceMetricsEnabled;
+    }
+
+    /**
+     * Records the proxy class lookup.
+     */
+    static void proxyClassLookedUp() {
+        LOOKUP_COUNT.increment();
+    }
+
+    /**
+     * Registers the MBean exposing the metrics in the platform MBean server (under {@link #MBEAN_NAME} name), if not
+     * registered yet. Collecting the metrics of facade instances has to be
+     * {@link #setInstanceMetricsEnabled(boolean) enabled} separately.
+     *
+     * @return the name of registered MBean
+     * @throws IllegalStateException if the MBean cannot be registered
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+    public static synchronized ObjectName registerMBean() {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsMXBean(), name);
+            }
+            return name;
+        } catch (final JMException exception) {
+            throw new IllegalStateException("Registering facade metrics MBean failed.", exception);
+        }
+    }
+
+    /**
+     * Resets all the metrics.
+     */
+    public static void reset() {
+        CLASS_BYTES.reset();
+        CLASS_COUNT.reset();
+        CLASSES_PER_TYPE.clear();
+        COPY_NANOS.reset();
+        GENERATION_NANOS.reset();
+        INSTANCE_COUNT.reset();
+        LOOKUP_COUNT.reset();
+    }
+
+    /**
+     * Enables or disables collecting the metrics of facade instances (number of facades created, number of proxy
+     * class lookups, and time spent on copying the state into facades).
+     *
+     * @param enabled {@code true} to enable collecting the metrics, {@code false} to disable it
+     */
+    public static void setInstanceMetricsEnabled(final boolean enabled) {
+        instanceMetricsEnabled = enabled;
+    }
+
+    /**
+     * @return snapshot of current metrics
+     */
+    public static FacadeMetricsSnapshot snapshot() {
+        final Map<String, Long> classesPerType = new TreeMap<>();
+        CLASSES_PER_TYPE.forEach((type, count) -> classesPerType.put(type, count.sum()));
+        return new FacadeMetricsSnapshot(CLASS_COUNT.sum(), classesPerType, Duration.ofNanos(GENERATION_NANOS.sum()),
+            CLASS_BYTES.sum(), LOOKUP_COUNT.sum(), INSTANCE_COUNT.sum(), Duration.ofNanos(COPY_NANOS.sum()));
+    }
+
+    /**
+     * Unregisters the MBean exposing the metrics from the platform MBean server, if registered.
+     *
+     * @throws IllegalStateException if the MBean cannot be unregistered
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+    public static synchronized void unregisterMBean() {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(MBEAN_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (final JMException exception) {
+            throw new IllegalStateException("Unregistering facade metrics MBean failed.", exception);
+        }
+    }
+
+    /**
+     * MBean exposing the metrics.
+     */
+    private static final class MetricsMXBean implements FacadeMetricsMXBean {
+
+        private static double toMillis(final long nanos) {
+            return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public long getEstimatedClassBytes() {
+            return CLASS_BYTES.sum();
+        }
+
+        @Override
+        public double getFieldCopyTimeMillis() {
+            return toMillis(COPY_NANOS.sum());
+        }
+
+        @Override
+        public long getGeneratedClassCount() {
+            return CLASS_COUNT.sum();
+        }
+
+        @Override
+        public Map<String, Long> getGeneratedClassesPerType() {
+            return snapshot().getGeneratedClassesPerType();
+        }
+
+        @Override
+        public double getGenerationTimeMillis() {
+            return toMillis(GENERATION_NANOS.sum());
+        }
+
+        @Override
+        public long getProxyClassLookupCount() {
+            return LOOKUP_COUNT.sum();
+        }
+
+        @Override
+        public long getProxyInstanceCount() {
+            return INSTANCE_COUNT.sum();
+        }
+
+        @Override
+        public void reset() {
+            FacadeMetrics.reset();
+        }
+
+    }
+
+}
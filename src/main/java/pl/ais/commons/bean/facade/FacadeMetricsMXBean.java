@@ -0,0 +1,58 @@
+package pl.ais.commons.bean.facade;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing the {@link FacadeMetrics facade metrics} through JMX.
+ *
+ * <p>Metrics of the facade instances (number of facades created, number of proxy class lookups, and time spent on
+ * copying the state into facades) are collected only when
+ * {@link FacadeMetrics#setInstanceMetricsEnabled(boolean) enabled}.
+ *
+ * @author Warlock, AIS.PL
+ * @see FacadeMetrics#registerMBean()
+ * @since 1.4.3
+ */
+public interface FacadeMetricsMXBean {
+
+    /**
+     * @return estimated size (in bytes) of the proxy classes generated so far
+     */
+    long getEstimatedClassBytes();
+
+    /**
+     * @return cumulative time (in milliseconds) spent on copying the state of proxied instances into the facades
+     */
+    double getFieldCopyTimeMillis();
+
+    /**
+     * @return number of the proxy classes generated so far
+     */
+    long getGeneratedClassCount();
+
+    /**
+     * @return number of the proxy classes generated so far, keyed by the name of proxied class
+     */
+    Map<String, Long> getGeneratedClassesPerType();
+
+    /**
+     * @return cumulative time (in milliseconds) spent on generating the proxy classes
+     */
+    double getGenerationTimeMillis();
+
+    /**
+     * @return number of the proxy class lookups (while the metrics of facade instances were enabled)
+     */
+    long getProxyClassLookupCount();
+
+    /**
+     * @return number of the facade instances created so far
+     */
+    long getProxyInstanceCount();
+
+    /**
+     * Resets all the metrics.
+     */
+    void reset();
+
+}
@@ -0,0 +1,115 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of the {@link FacadeMetrics facade metrics}.
+ *
+ * @author Warlock, AIS.PL
+ * @see FacadeMetrics#snapshot()
+ * @since 1.4.3
+ */
+@Immutable
+@SuppressWarnings("PMD.DataClass")
+public final class FacadeMetricsSnapshot {
+
+    private final long estimatedClassBytes;
+
+    private final Duration fieldCopyTime;
+
+    private final long generatedClassCount;
+
+    private final Map<String, Long> generatedClassesPerType;
+
+    private final Duration generationTime;
+
+    private final long proxyClassLookupCount;
+
+    private final long proxyInstanceCount;
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    FacadeMetricsSnapshot(final long generatedClassCount, @Nonnull final Map<String, Long> generatedClassesPerType,
+                          @Nonnull final Duration generationTime, final long estimatedClassBytes,
+                          final long proxyClassLookupCount, final long proxyInstanceCount,
+                          @Nonnull final Duration fieldCopyTime) {
+        this.generatedClassCount = generatedClassCount;
+        this.generatedClassesPerType = Collections.unmodifiableMap(new LinkedHashMap<>(generatedClassesPerType));
+        this.generationTime = generationTime;
+        this.estimatedClassBytes = estimatedClassBytes;
+        this.proxyClassLookupCount = proxyClassLookupCount;
+        this.proxyInstanceCount = proxyInstanceCount;
+        this.fieldCopyTime = fieldCopyTime;
+    }
+
+    /**
+     * @return estimated size (in bytes) of the proxy classes generated (by CGLIB, or as the hidden classes)
+     */
+    public long getEstimatedClassBytes() {
+        return estimatedClassBytes;
+    }
+
+    /**
+     * @return cumulative time spent on copying the state of proxied instances into the facades (collected only when
+     * the metrics of facade instances are {@link FacadeMetrics#setInstanceMetricsEnabled(boolean) enabled})
+     */
+    public Duration getFieldCopyTime() {
+        return fieldCopyTime;
+    }
+
+    /**
+     * @return number of the proxy classes generated (by CGLIB, or as the hidden classes)
+     */
+    public long getGeneratedClassCount() {
+        return generatedClassCount;
+    }
+
+    /**
+     * Provides the number of proxy classes generated per proxied class name, number greater than 1 means that the
+     * class has been loaded (and proxied) multiple times, by different class loaders.
+     *
+     * @return number of the proxy classes generated, keyed by the name of proxied class
+     */
+    public Map<String, Long> getGeneratedClassesPerType() {
+        return generatedClassesPerType;
+    }
+
+    /**
+     * @return cumulative time spent on generating the proxy classes
+     */
+    public Duration getGenerationTime() {
+        return generationTime;
+    }
+
+    /**
+     * @return number of the proxy class lookups (collected only when the metrics of facade instances are
+     * {@link FacadeMetrics#setInstanceMetricsEnabled(boolean) enabled}), lookups which didn't generate the proxy class
+     * are the cache hits
+     */
+    public long getProxyClassLookupCount() {
+        return proxyClassLookupCount;
+    }
+
+    /**
+     * @return number of the facade instances created (collected only when the metrics of facade instances are
+     * {@link FacadeMetrics#setInstanceMetricsEnabled(boolean) enabled})
+     */
+    public long getProxyInstanceCount() {
+        return proxyInstanceCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("Generated %d proxy classes (%d bytes) in %d ms, created %d facades (%d lookups), "
+                + "copying their state took %d ms", generatedClassCount, estimatedClassBytes, generationTime.toMillis(),
+            proxyInstanceCount, proxyClassLookupCount, fieldCopyTime.toMillis());
+    }
+
+}
@@ -0,0 +1,33 @@
+package pl.ais.commons.bean.facade;
+
+/**
+ * Options affecting the way facades are created.
+ *
+ * @author Warlock, AIS.PL
+ * @see Facade#over(Object, TraverseListener, FacadeOption...)
+ * @since 1.4.3
+ */
+public enum FacadeOption {
+
+    /**
+     * Skips copying the state of proxied instance into the facade.
+     *
+     * <p>Facade forwards every intercepted call to the proxied instance, so the copied state is used only by final
+     * methods and direct field access. With this option the facade (and all facades created for the values it returns)
+     * doesn't duplicate the state of proxied instance. The state is still copied for the classes declaring final
+     * public accessors, because such accessors cannot be intercepted and have to work on the facade's own state.
+     */
+    DELEGATE_ONLY,
+
+    /**
+     * Allows sharing the facade by multiple threads.
+     *
+     * <p>Facades created for the values returned by the accessors are neither memoized, nor reused then (each
+     * accessor call returns new facade), so the facade (and all facades created for the values it returns) holds no
+     * mutable state, and can be traversed by multiple threads at the same time, without any locking. Facade should be
+     * used with the {@link TraverseListener#threadConfined(PropertyPath) thread-confined} traverse listener, to
+     * track down the paths separately for each thread.
+     */
+    SHARED
+
+}
@@ -0,0 +1,102 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static pl.ais.commons.bean.facade.Facade.optionsOf;
+import static pl.ais.commons.bean.facade.ProxyClassCache.proxyClassFor;
+
+/**
+ * Per-thread pool of the facades, allowing reuse of the facades (and the facades created by them for the values
+ * returned from the accessors) built over instances of the same class.
+ *
+ * <p>Facade acquired from the pool should be released when it's not needed anymore, it should not be used
+ * (together with the facades returned by its accessors) after being released.
+ *
+ * <p>Pool doesn't keep the facade classes (and their class loaders) reachable: the classes are referenced weakly,
+ * and the facades pooled for each of them softly, so they can be unloaded once the application stops using them.
+ * Use {@link #clear()} to drop the facades pooled by current thread right away, if needed.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+public final class FacadePool {
+
+    /**
+     * Maximal number of facades of the same class pooled by single thread.
+     */
+    private static final int CAPACITY = 8;
+
+    /**
+     * Facades pooled by current thread, keyed by the facade class (pooled facades refer to their class, so they're
+     * held softly, to not prevent the weakly referenced class from being unloaded).
+     */
+    private static final ThreadLocal<Map<Class<?>, Reference<Deque<Object>>>> POOLS = ThreadLocal.withInitial(WeakHashMap::new);
+
+    private FacadePool() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Provides the facade (proxy) built over given instance of class {@literal T}, using given options.
+     *
+     * <p>Facade released before by current thread is retargeted at given instance, if available, new facade is
+     * created otherwise.
+     *
+     * @param instance instance to be proxied
+     * @param listener property traverse listener to be used for the facade
+     * @param options  options affecting the way facade is created (applied also to the nested facades)
+     * @param <S>      superclass of {@literal T} which will be extended by the facade
+     * @param <T>      type of the instance to be proxied
+     * @return facade (proxy) built over given instance of class {@literal T}
+     * @see Facade#over(Object, TraverseListener, FacadeOption...)
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T extends S> S acquire(@Nonnull final T instance, final TraverseListener listener,
+                                             final FacadeOption... options) {
+
+        // Unwrap the foreign proxy first (if possible), the same way the facades do, to look up matching pool.
+        final Object unwrapped = ForeignProxies.unwrap(instance);
+        final Reference<Deque<Object>> reference = POOLS.get().get(proxyClassFor(unwrapped.getClass()).getType());
+        final Deque<Object> pool = (null == reference) ? null : reference.get();
+        final Object pooled = (null == pool) ? null : pool.poll();
+        return (null == pooled) ? (S) Facade.over(unwrapped, listener, optionsOf(options))
+            : (S) Facade.retarget(pooled, unwrapped, listener, optionsOf(options));
+    }
+
+    /**
+     * Drops all the facades pooled by current thread.
+     */
+    public static void clear() {
+        POOLS.remove();
+    }
+
+    /**
+     * Releases given facade, detaching it from the instance it was built over, and making it available for reuse
+     * by current thread.
+     *
+     * @param facade the facade to be released
+     * @throws IllegalArgumentException if given object is not a facade
+     */
+    public static void release(@Nonnull final Object facade) {
+        Facade.detach(facade);
+        final Map<Class<?>, Reference<Deque<Object>>> pools = POOLS.get();
+        final Reference<Deque<Object>> reference = pools.get(facade.getClass());
+        Deque<Object> pool = (null == reference) ? null : reference.get();
+        if (null == pool) {
+            pool = new ArrayDeque<>(CAPACITY);
+            pools.put(facade.getClass(), new SoftReference<>(pool));
+        }
+        if (CAPACITY > pool.size()) {
+            pool.push(facade);
+        }
+    }
+
+}
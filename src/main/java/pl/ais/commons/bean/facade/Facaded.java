@@ -0,0 +1,37 @@
+package pl.ais.commons.bean.facade;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the class for which the facade class should be generated at compile time (by the
+ * {@link pl.ais.commons.bean.facade.processor.FacadeProcessor}), instead of being generated by CGLIB at runtime.
+ *
+ * <p>Facade class generated for the class {@code com.example.Outer.Inner} is named
+ * {@code com.example.Outer_Inner_Facade}, and is used by {@link Facade#over(Object, TraverseListener)} for the
+ * instances of the annotated class (but not of its subclasses), if it's available. Facades are generated by CGLIB
+ * otherwise (for example if annotation processing was disabled).
+ *
+ * <p>Generated facade overrides public methods only, other methods are executed by the facade itself (using the
+ * state copied from proxied instance, unless {@link FacadeOption#DELEGATE_ONLY} is used).
+ *
+ * <p>Annotated class should be non-final, non-abstract, top-level or static nested class, accessible from its
+ * package, and having non-private parameterless constructor.
+ *
+ * <p>Facade annotation processor isn't registered as the service, so it has to be enabled explicitly, for example
+ * using {@code -processor pl.ais.commons.bean.facade.processor.FacadeProcessor} compiler option (or
+ * {@code annotationProcessors} configuration of the Maven Compiler Plugin). Processors listed this way are the only
+ * ones used by the compiler, so other processors needed (like JMH benchmark processor) have to be listed too.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Facaded {
+
+}
@@ -0,0 +1,209 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static pl.ais.commons.bean.facade.FieldPredicates.staticField;
+
+/**
+ * Copies the state (instance fields declared by the class and all its superclasses) from one object to another, or
+ * resets it to the default values.
+ *
+ * <p>Copier is built once per class, as single method handle being a straight-line composition of the field
+ * getters and setters, and cached using {@link ClassValue}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+final class FieldCopier {
+
+    private static final MethodType CLEAR_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final ClassValue<FieldCopier> COPIERS = new ClassValue<FieldCopier>() {
+
+        @Override
+        protected FieldCopier computeValue(final Class<?> type) {
+            return buildCopier(type);
+        }
+
+    };
+
+    private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandle REFLECTIVE_COPY;
+
+    private static final MethodHandle REFLECTIVE_SET;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            REFLECTIVE_COPY = lookup.findStatic(FieldCopier.class, "copyReflectively",
+                MethodType.methodType(void.class, Field.class, Object.class, Object.class));
+            REFLECTIVE_SET = lookup.findStatic(FieldCopier.class, "setReflectively",
+                MethodType.methodType(void.class, Field.class, Object.class, Object.class));
+        } catch (final NoSuchMethodException | IllegalAccessException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    @Nullable
+    private final MethodHandle clearHandle;
+
+    @Nullable
+    private final MethodHandle copyHandle;
+
+    private FieldCopier(@Nullable final MethodHandle copyHandle, @Nullable final MethodHandle clearHandle) {
+        this.copyHandle = copyHandle;
+        this.clearHandle = clearHandle;
+    }
+
+    private static FieldCopier buildCopier(final Class<?> type) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle copyHandle = null;
+        MethodHandle clearHandle = null;
+
+        // For each field declared by given class and its superclasses, except the static fields, ...
+        for (final Field field : instanceFieldsOf(type)) {
+
+            // ... build the handles copying and clearing the field value, and append them to the sequences built so far.
+            final MethodHandle fieldCopy = fieldCopyHandle(lookup, field);
+            copyHandle = (null == copyHandle) ? fieldCopy : MethodHandles.foldArguments(fieldCopy, copyHandle);
+
+            final MethodHandle fieldClear = fieldClearHandle(lookup, field);
+            clearHandle = (null == clearHandle) ? fieldClear : MethodHandles.foldArguments(fieldClear, clearHandle);
+        }
+        return new FieldCopier(copyHandle, clearHandle);
+    }
+
+    /**
+     * Provides the copier for given class.
+     *
+     * @param type the class which (inherited) fields should be copied
+     * @return the copier for given class
+     */
+    static FieldCopier copierFor(@Nonnull final Class<?> type) {
+        return COPIERS.get(type);
+    }
+
+    @SuppressWarnings({"unused", "PMD.EmptyCatchBlock"})
+    private static void copyReflectively(final Field field, final Object target, final Object source) {
+        try {
+            field.set(target, field.get(source));
+        } catch (final IllegalAccessException exception) {
+            // Ignore ...
+        }
+    }
+
+    private static MethodHandle fieldClearHandle(final MethodHandles.Lookup lookup, final Field field) {
+        final Class<?> fieldType = field.getType();
+        final Object defaultValue = fieldType.isPrimitive() ? Array.get(Array.newInstance(fieldType, 1), 0) : null;
+        MethodHandle result;
+        try {
+            // Build (target) -> target.field = default value of the field type, ...
+            result = MethodHandles.insertArguments(lookup.unreflectSetter(field), 1, defaultValue);
+        } catch (final IllegalAccessException exception) {
+
+            // ... or fall back to reflection, if the field cannot be written through the method handle.
+            result = MethodHandles.insertArguments(MethodHandles.insertArguments(REFLECTIVE_SET, 2, defaultValue), 0, field);
+        }
+        return result.asType(CLEAR_TYPE);
+    }
+
+    private static MethodHandle fieldCopyHandle(final MethodHandles.Lookup lookup, final Field field) {
+        MethodHandle result;
+        try {
+            // Build (target, source) -> target.field = source.field, preserving the field type, ...
+            final MethodHandle getter = lookup.unreflectGetter(field)
+                                              .asType(MethodType.methodType(field.getType(), Object.class));
+            final MethodHandle setter = lookup.unreflectSetter(field)
+                                              .asType(MethodType.methodType(void.class, Object.class, field.getType()));
+            result = MethodHandles.filterArguments(setter, 1, getter);
+        } catch (final IllegalAccessException exception) {
+
+            // ... or fall back to reflection, if the field cannot be written through the method handle.
+            result = MethodHandles.insertArguments(REFLECTIVE_COPY, 0, field);
+        }
+        return result.asType(COPY_TYPE);
+    }
+
+    private static List<Field> instanceFieldsOf(final Class<?> type) {
+        final List<Field> result = new ArrayList<>();
+        for (Class<?> current = type; (null != current) && (Object.class != current); current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (!staticField().test(field) && makeAccessible(field)) {
+                    result.add(field);
+                }
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static boolean makeAccessible(final Field field) {
+        boolean result;
+        try {
+            field.setAccessible(true);
+            result = true;
+        } catch (final RuntimeException exception) {
+            // Fields of the classes not opened for us (Java 9+ modules) cannot be copied, ignore them.
+            result = false;
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"unused", "PMD.EmptyCatchBlock"})
+    private static void setReflectively(final Field field, final Object target, final Object value) {
+        try {
+            field.set(target, value);
+        } catch (final IllegalAccessException exception) {
+            // Ignore ...
+        }
+    }
+
+    /**
+     * Resets the state of given object, by setting all its fields to the default values.
+     *
+     * @param target the object which state should be reset
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    void clear(@Nonnull final Object target) {
+        if (null != clearHandle) {
+            try {
+                clearHandle.invokeExact(target);
+            } catch (final RuntimeException | Error exception) {
+                throw exception;
+            } catch (final Throwable throwable) {
+                throw new IllegalStateException("Clearing the state of " + target + " failed.", throwable);
+            }
+        }
+    }
+
+    /**
+     * Copies the state of source object to the target object.
+     *
+     * @param source the object which state should be copied
+     * @param target the object which will receive the state
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    void copy(@Nonnull final Object source, @Nonnull final Object target) {
+        if (null != copyHandle) {
+            try {
+                copyHandle.invokeExact(target, source);
+            } catch (final RuntimeException | Error exception) {
+                throw exception;
+            } catch (final Throwable throwable) {
+                throw new IllegalStateException("Copying the state of " + source + " failed.", throwable);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Provides set of methods usable for handling the proxies created by other libraries, using the
+ * {@link ForeignProxyHandler handlers} discovered by {@link ServiceLoader}, and the built-in ones.
+ *
+ * <p>Handler (and the types proxied) is determined once per class, and held by {@link ClassValue}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+final class ForeignProxies {
+
+    private static final ForeignProxyHandler[] HANDLERS = loadHandlers();
+
+    private static final Resolution UNHANDLED = new Resolution(null, null);
+
+    private static final ClassValue<Resolution> RESOLUTIONS = new ClassValue<Resolution>() {
+
+        @Override
+        protected Resolution computeValue(final Class<?> type) {
+            Resolution result = UNHANDLED;
+            for (final ForeignProxyHandler handler : HANDLERS) {
+                final Class<?>[] proxiedTypes = handler.proxiedTypesOf(type);
+                if (null != proxiedTypes) {
+                    result = new Resolution(handler, proxiedTypes.clone());
+                    break;
+                }
+            }
+            return result;
+        }
+
+    };
+
+    private ForeignProxies() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Verifies if given class is the class of proxies handled by any handler.
+     *
+     * @param candidate the class to be verified
+     * @return {@code true} if given class is the class of proxies handled by any handler, {@code false} otherwise
+     */
+    static boolean isForeignProxy(@Nonnull final Class<?> candidate) {
+        return UNHANDLED != RESOLUTIONS.get(candidate);
+    }
+
+    private static ForeignProxyHandler[] loadHandlers() {
+        final List<ForeignProxyHandler> handlers = new ArrayList<>();
+        ServiceLoader.load(ForeignProxyHandler.class, ForeignProxies.class.getClassLoader())
+                     .forEach(handlers::add);
+        handlers.add(JdkProxyHandler.INSTANCE);
+        handlers.add(ByteBuddyProxyHandler.INSTANCE);
+        return handlers.toArray(new ForeignProxyHandler[0]);
+    }
+
+    /**
+     * Determines the types proxied by given class.
+     *
+     * @param candidate the class to be verified
+     * @return the types proxied by given class, or {@code null} if given class is not the class of proxies handled
+     * by any handler
+     */
+    @Nullable
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    static Class<?>[] proxiedTypesOf(@Nonnull final Class<?> candidate) {
+        return RESOLUTIONS.get(candidate).proxiedTypes;
+    }
+
+    /**
+     * Unwraps given instance, if it's the proxy handled by any handler (and the handler can unwrap it).
+     *
+     * @param instance the instance to be unwrapped
+     * @return the instance proxied by given proxy, or given instance itself
+     */
+    static Object unwrap(@Nonnull final Object instance) {
+        final Resolution resolution = RESOLUTIONS.get(instance.getClass());
+        return (UNHANDLED == resolution) ? instance : resolution.handler.unwrap(instance);
+    }
+
+    /**
+     * Handler of the proxy class, accompanied by the types proxied by it.
+     */
+    private static final class Resolution {
+
+        private final ForeignProxyHandler handler;
+
+        private final Class<?>[] proxiedTypes;
+
+        private Resolution(final ForeignProxyHandler handler, final Class<?>[] proxiedTypes) {
+            this.handler = handler;
+            this.proxiedTypes = proxiedTypes;
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Service provider interface for handling the proxies created by other libraries (like ORM lazy loading proxies),
+ * to avoid proxying them again.
+ *
+ * <p>Facade built over such proxy extends (implements) the types proxied by it, instead of the proxy class itself,
+ * and delegates all the calls to the proxy, without copying its state (copying the state could force the lazy
+ * initialization). Therefore only the properties accessed through the facade are loaded by the proxy. Handler may
+ * also unwrap the proxy, if it can be done without side effects, the facade is built over unwrapped instance then.
+ *
+ * <p>Handlers are discovered using {@link java.util.ServiceLoader} (registered in
+ * {@code META-INF/services/pl.ais.commons.bean.facade.ForeignProxyHandler}), and consulted before the built-in
+ * handlers of JDK dynamic proxies and ByteBuddy generated classes (including Hibernate proxies).
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public interface ForeignProxyHandler {
+
+    /**
+     * Determines the types proxied by given class, if it's the class of proxies handled by this handler.
+     *
+     * <p>The first type is the class to be extended by the facade (or the interface to be implemented by it), the
+     * remaining ones are the interfaces to be implemented by the facade. All the types should be public.
+     *
+     * @param candidate the class to be verified
+     * @return the types proxied by given class, or {@code null} if given class is not handled by this handler
+     */
+    @Nullable
+    Class<?>[] proxiedTypesOf(@Nonnull Class<?> candidate);
+
+    /**
+     * Unwraps given proxy (being an instance of the class handled by this handler), if it can be done without side
+     * effects (for example if the lazy loading proxy has been initialized already).
+     *
+     * @param proxy the proxy to be unwrapped
+     * @return the instance proxied by given proxy, or the proxy itself, if it cannot be unwrapped
+     */
+    default Object unwrap(@Nonnull final Object proxy) {
+        return proxy;
+    }
+
+}
@@ -0,0 +1,25 @@
+package pl.ais.commons.bean.facade;
+
+/**
+ * Interface implemented by the facade classes generated at compile time for the classes annotated with
+ * {@link Facaded}.
+ *
+ * <p>It's the part of contract between the facade classes generated at compile time and the facade runtime, not
+ * intended to be used by the application code.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public interface GeneratedFacade {
+
+    /**
+     * @return the callback used by this facade
+     */
+    FacadeCallback getFacadeCallback();
+
+    /**
+     * @param callback the callback to be used by this facade
+     */
+    void setFacadeCallback(FacadeCallback callback);
+
+}
@@ -0,0 +1,45 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Defines the facade classes as the hidden classes, which can be unloaded (independently of their class loader) once
+ * they're not used anymore.
+ *
+ * <p>Hidden classes are supported since Java 15, this (Java 8) version doesn't support them, the version supporting
+ * them is provided by the multi-release JAR (see {@code src/main/java15}).
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+final class HiddenClasses {
+
+    private HiddenClasses() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Defines the hidden class in the package (and the class loader) of given class.
+     *
+     * @param host     the class determining the package and the class loader of hidden class
+     * @param bytecode the bytecode of hidden class
+     * @return the hidden class, or {@code null} if the hidden classes are not supported (or cannot be defined in the
+     * package of given class)
+     */
+    @Nullable
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    static Class<?> define(@Nonnull final Class<?> host, @Nonnull final byte[] bytecode) {
+        return null;
+    }
+
+    /**
+     * @return {@code true} if the hidden classes are supported, {@code false} otherwise
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+}
@@ -0,0 +1,42 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+/**
+ * Handler of the JDK dynamic proxies, facades built over them implement the same (public) interfaces.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+final class JdkProxyHandler implements ForeignProxyHandler {
+
+    static final JdkProxyHandler INSTANCE = new JdkProxyHandler();
+
+    private JdkProxyHandler() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("PMD.ReturnEmptyArrayRatherThanNull")
+    public Class<?>[] proxiedTypesOf(@Nonnull final Class<?> candidate) {
+        Class<?>[] result = null;
+        if (Proxy.isProxyClass(candidate)) {
+            result = candidate.getInterfaces();
+            for (final Class<?> type : result) {
+                if (!Modifier.isPublic(type.getModifiers())) {
+                    result = null;
+                    break;
+                }
+            }
+        }
+        return ((null == result) || (0 == result.length)) ? null : result;
+    }
+
+}
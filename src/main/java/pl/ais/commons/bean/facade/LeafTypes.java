@@ -0,0 +1,92 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Registry of the leaf types, never proxied by the facades (values of such types are returned by the facade
+ * accessors as they are), even if they could be proxied.
+ *
+ * <p>Type is considered to be the leaf type if it's assignable to any of the registered types, so registering the
+ * type registers also all its subtypes. Registry contains by default the types of common values: {@link CharSequence},
+ * {@link Number}, {@link Boolean}, {@link Character}, {@link Enum}, {@link Date}, {@link Calendar},
+ * {@link TemporalAccessor}, {@link TemporalAmount} and {@link ZoneId}. Types should be registered at startup,
+ * before creating the facades, since the decisions made for the classes are cached.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+public final class LeafTypes {
+
+    private static final Class<?>[] DEFAULT_TYPES = {Boolean.class, Calendar.class, Character.class,
+        CharSequence.class, Date.class, Enum.class, Number.class, TemporalAccessor.class, TemporalAmount.class,
+        ZoneId.class};
+
+    /**
+     * Incremented on each registration (and reset), to invalidate the decisions cached before.
+     */
+    private static volatile int generation;
+
+    private static volatile Class<?>[] types = DEFAULT_TYPES;
+
+    private LeafTypes() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * @return the number of registrations (and resets) made so far
+     */
+    static int generation() {
+        return generation;
+    }
+
+    /**
+     * Verifies if given type is the leaf type.
+     *
+     * @param candidate the type to be verified
+     * @return {@code true} if given type is assignable to any of the registered types, {@code false} otherwise
+     */
+    public static boolean isLeaf(@Nonnull final Class<?> candidate) {
+        boolean result = false;
+        for (final Class<?> type : types) {
+            if (type.isAssignableFrom(candidate)) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resets the registry to the default leaf types, unregistering all the types registered so far (used by the tests).
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+    static synchronized void reset() {
+        types = DEFAULT_TYPES;
+        generation++;
+    }
+
+    /**
+     * Registers given types (and all their subtypes) as the leaf types.
+     *
+     * @param first first type to be registered
+     * @param rest  remaining types to be registered
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+    public static synchronized void register(@Nonnull final Class<?> first, final Class<?>... rest) {
+        final Class<?>[] current = types;
+        final Class<?>[] registered = Arrays.copyOf(current, current.length + 1 + rest.length);
+        registered[current.length] = first;
+        System.arraycopy(rest, 0, registered, current.length + 1, rest.length);
+        types = registered;
+        generation++;
+    }
+
+}
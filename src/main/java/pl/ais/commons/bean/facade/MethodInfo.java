@@ -0,0 +1,147 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import static pl.ais.commons.bean.facade.MethodPredicates.accessor;
+import static pl.ais.commons.bean.facade.MethodPredicates.elementAccessor;
+
+/**
+ * Classification of the method (from the property path point of view), accompanied by the path segment name derived
+ * from the method name.
+ *
+ * <p>Method is classified once, classifications of all the methods declared by the class are held by
+ * {@link ClassValue} (keyed by the declaring class), shared by the traverse listeners and the facades.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+final class MethodInfo {
+
+    private static final ClassValue<Map<Method, MethodInfo>> METHODS = new ClassValue<Map<Method, MethodInfo>>() {
+
+        @Override
+        @SuppressWarnings("PMD.UseConcurrentHashMap")
+        protected Map<Method, MethodInfo> computeValue(final Class<?> type) {
+
+            // Map is never modified after being published by the ClassValue, so it can be safely read concurrently.
+            final Map<Method, MethodInfo> result = new HashMap<>();
+            for (final Method method : type.getDeclaredMethods()) {
+                result.put(method, classify(method));
+            }
+            return result;
+        }
+
+    };
+
+    private final Kind kind;
+
+    private final String segmentName;
+
+    private MethodInfo(@Nonnull final Kind kind, @Nullable final String segmentName) {
+        this.kind = kind;
+        this.segmentName = segmentName;
+    }
+
+    private static MethodInfo classify(final Method method) {
+        final String name = method.getName();
+        final MethodInfo result;
+        if (elementAccessor().test(method)) {
+            result = new MethodInfo(Kind.ELEMENT_ACCESSOR, null);
+        } else if (accessor().test(method)) {
+            final boolean booleanAccessor = name.startsWith("is");
+            result = new MethodInfo(booleanAccessor ? Kind.BOOLEAN_ACCESSOR : Kind.ACCESSOR, segmentNameOf(name, booleanAccessor ? 2 : 3));
+        } else if ((3 < name.length()) && name.startsWith("set")) {
+            result = new MethodInfo(Kind.MUTATOR, segmentNameOf(name, 3));
+        } else {
+            result = new MethodInfo(Kind.IGNORED, null);
+        }
+        return result;
+    }
+
+    /**
+     * Provides the classification of given method.
+     *
+     * @param method the method
+     * @return the classification of given method
+     */
+    static MethodInfo of(@Nonnull final Method method) {
+        final MethodInfo result = METHODS.get(method.getDeclaringClass()).get(method);
+        return (null == result) ? classify(method) : result;
+    }
+
+    private static String segmentNameOf(final String methodName, final int prefixLength) {
+        final char[] name = methodName.toCharArray();
+        name[prefixLength] = Character.toLowerCase(name[prefixLength]);
+        return String.valueOf(name, prefixLength, name.length - prefixLength).intern();
+    }
+
+    /**
+     * @return the method kind
+     */
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the name of property path segment corresponding to the method (interned), or {@code null} if the
+     * method doesn't correspond to any property
+     */
+    @Nullable
+    String getSegmentName() {
+        return segmentName;
+    }
+
+    /**
+     * @return {@code true} if the method calls should be intercepted by the facades, {@code false} otherwise
+     */
+    boolean isIntercepted() {
+        return (Kind.ACCESSOR == kind) || (Kind.BOOLEAN_ACCESSOR == kind) || (Kind.ELEMENT_ACCESSOR == kind);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return (null == segmentName) ? kind.name() : kind.name() + '(' + segmentName + ')';
+    }
+
+    /**
+     * Kinds of the methods.
+     */
+    enum Kind {
+
+        /**
+         * Property accessor (parameterless {@code get*} method returning some value).
+         */
+        ACCESSOR,
+
+        /**
+         * Boolean property accessor (parameterless {@code is*} method returning {@code boolean}).
+         */
+        BOOLEAN_ACCESSOR,
+
+        /**
+         * Collection/Map element accessor ({@code get} method taking single parameter).
+         */
+        ELEMENT_ACCESSOR,
+
+        /**
+         * Any other method.
+         */
+        IGNORED,
+
+        /**
+         * Property mutator ({@code set*} method).
+         */
+        MUTATOR
+
+    }
+
+}
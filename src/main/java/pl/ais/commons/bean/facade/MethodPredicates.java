@@ -0,0 +1,75 @@
+package pl.ais.commons.bean.facade;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Predicate;
+
+/**
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+final class MethodPredicates {
+
+    private MethodPredicates() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * @return predicate matched by property accessors (parameterless {@code get*} methods returning some value, and
+     * parameterless {@code is*} methods returning {@code boolean})
+     */
+    public static Predicate<Method> accessor() {
+        return candidate -> {
+            final Class<?> returnType = candidate.getReturnType();
+            return AccessorSignatures.isPropertyAccessor(candidate.getName(), candidate.getParameterCount(),
+                void.class.equals(returnType), boolean.class.equals(returnType));
+        };
+    }
+
+    /**
+     * @return predicate matched by Collection/Map element accessors ({@code get} methods taking single parameter)
+     */
+    public static Predicate<Method> elementAccessor() {
+        return candidate -> AccessorSignatures.isElementAccessor(candidate.getName(), candidate.getParameterCount());
+    }
+
+    /**
+     * @return predicate matched by final methods
+     */
+    public static Predicate<Method> finalMethod() {
+        return candidate -> Modifier.isFinal(candidate.getModifiers());
+    }
+
+    /**
+     * Verifies if candidate method matches the predicate.
+     *
+     * @param candidate candidate method
+     * @param predicate predicate to be matched
+     * @return {code true} if candidate method matches the predicate, {@code false} otherwise
+     */
+    public static boolean is(final Method candidate, final Predicate<Method> predicate) {
+        return predicate.test(candidate);
+    }
+
+    /**
+     * @return predicate matched by private methods
+     */
+    public static Predicate<Method> privateMethod() {
+        return candidate -> Modifier.isPrivate(candidate.getModifiers());
+    }
+
+    /**
+     * @return predicate matched by public methods
+     */
+    public static Predicate<Method> publicMethod() {
+        return candidate -> Modifier.isPublic(candidate.getModifiers());
+    }
+
+    /**
+     * @return predicate matched by static methods
+     */
+    public static Predicate<Method> staticMethod() {
+        return candidate -> Modifier.isStatic(candidate.getModifiers());
+    }
+
+}
@@ -0,0 +1,61 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Defines the API contract for the format used to render the {@link PropertyPath property paths}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public interface PathFormat {
+
+    /**
+     * Spring bean property path format, for example {@code activities[1].name}, or {@code colleagues['John']}.
+     */
+    PathFormat BEAN_PATH = StandardPathFormat.BEAN_PATH;
+
+    /**
+     * JSONPath format, for example {@code $.activities[1].name}, or {@code $.colleagues['John']}.
+     */
+    PathFormat JSON_PATH = StandardPathFormat.JSON_PATH;
+
+    /**
+     * JSON Pointer (RFC 6901) format, for example {@code /activities/1/name}, or {@code /colleagues/John}.
+     */
+    PathFormat JSON_POINTER = StandardPathFormat.JSON_POINTER;
+
+    /**
+     * Appends the segment pointing to the collection element at given index.
+     *
+     * @param builder the builder to append to
+     * @param index   the element index
+     */
+    void appendIndex(@Nonnull StringBuilder builder, int index);
+
+    /**
+     * Appends the segment pointing to the collection/map element having given key.
+     *
+     * @param builder the builder to append to
+     * @param key     the element key
+     */
+    void appendKey(@Nonnull StringBuilder builder, @Nullable Object key);
+
+    /**
+     * Appends the segment pointing to the property having given name.
+     *
+     * @param builder the builder to append to
+     * @param name    the property name
+     * @param first   indicates if the segment is the first segment of the path
+     */
+    void appendProperty(@Nonnull StringBuilder builder, @Nonnull String name, boolean first);
+
+    /**
+     * Appends the root of the path.
+     *
+     * @param builder the builder to append to
+     */
+    void appendRoot(@Nonnull StringBuilder builder);
+
+}
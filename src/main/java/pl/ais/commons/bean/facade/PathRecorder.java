@@ -0,0 +1,169 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+
+/**
+ * Records the property path as the sequence of segments (property names and collection/map element keys), kept in
+ * reusable arrays, converting it into the {@link PropertyPath} only when it's requested.
+ *
+ * <p>Recording the segment doesn't allocate any memory (unless the arrays have to grow), property names are
+ * recorded by reference, element keys are recorded as they are.
+ *
+ * <p>Path recorded so far can be {@link #detach(RecordedPath) detached}, its segments are kept then (until the path
+ * is released), and new path is recorded after them.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@NotThreadSafe
+final class PathRecorder {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Recorded element keys, {@code null} for the property segments.
+     */
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+
+    /**
+     * Recorded property names, {@code null} for the element segments.
+     */
+    private String[] names = new String[INITIAL_CAPACITY];
+
+    /**
+     * Number of the paths detached, and not released yet.
+     */
+    private int detached;
+
+    private int size;
+
+    /**
+     * Index of the first segment of currently recorded path.
+     */
+    private int start;
+
+    /**
+     * Clears currently recorded path (paths detached before are kept).
+     */
+    void clear() {
+        Arrays.fill(keys, start, size, null);
+        Arrays.fill(names, start, size, null);
+        size = start;
+    }
+
+    /**
+     * Detaches currently recorded path into given handle, and starts recording new path.
+     *
+     * @param path the handle of detached path
+     * @throws IllegalStateException if given handle holds some path already
+     */
+    void detach(@Nonnull final RecordedPath path) {
+        if (path.detached) {
+            throw new IllegalStateException("Handle holds the path detached before.");
+        }
+        path.from = start;
+        path.to = size;
+        path.detached = true;
+        start = size;
+        detached++;
+    }
+
+    private void ensureCapacity() {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size << 1);
+            keys = Arrays.copyOf(keys, size << 1);
+        }
+    }
+
+    /**
+     * @return {@code true} if no segment has been recorded (since the last detach), {@code false} otherwise
+     */
+    boolean isEmpty() {
+        return start == size;
+    }
+
+    /**
+     * Records the collection/map element access, if any property has been recorded before (element accessed
+     * directly is not a property, so it's ignored).
+     *
+     * @param key the element index or key
+     */
+    void recordElement(@Nullable final Object key) {
+        if (start < size) {
+            ensureCapacity();
+            keys[size++] = key;
+        }
+    }
+
+    /**
+     * Records the property access.
+     *
+     * @param name the property name
+     */
+    void recordProperty(final String name) {
+        ensureCapacity();
+        names[size++] = name;
+    }
+
+    /**
+     * Releases the path detached before, making its segments available for reuse, once all the detached paths are
+     * released.
+     *
+     * @param path the handle of detached path
+     */
+    void release(@Nonnull final RecordedPath path) {
+        if (path.detached) {
+            path.detached = false;
+            detached--;
+            if (0 == detached) {
+
+                // Move currently recorded path to the beginning, and clear the segments following it.
+                final int length = size - start;
+                System.arraycopy(names, start, names, 0, length);
+                System.arraycopy(keys, start, keys, 0, length);
+                Arrays.fill(names, length, size, null);
+                Arrays.fill(keys, length, size, null);
+                start = 0;
+                size = length;
+            }
+        }
+    }
+
+    /**
+     * Converts currently recorded path into the {@link PropertyPath}.
+     *
+     * @param basePath the path to be prepended to recorded path
+     * @return recorded path, resolved against given base path
+     */
+    PropertyPath toPropertyPath(@Nonnull final PropertyPath basePath) {
+        return toPropertyPath(basePath, start, size);
+    }
+
+    /**
+     * Converts given detached path into the {@link PropertyPath}.
+     *
+     * @param basePath the path to be prepended to detached path
+     * @param path     the handle of detached path
+     * @return detached path, resolved against given base path
+     * @throws IllegalStateException if given handle doesn't hold any path
+     */
+    PropertyPath toPropertyPath(@Nonnull final PropertyPath basePath, @Nonnull final RecordedPath path) {
+        if (!path.detached) {
+            throw new IllegalStateException("Handle doesn't hold any path.");
+        }
+        return toPropertyPath(basePath, path.from, path.to);
+    }
+
+    private PropertyPath toPropertyPath(final PropertyPath basePath, final int from, final int to) {
+        PropertyPath result = basePath;
+        for (int index = from; index < to; index++) {
+            final String name = names[index];
+            result = (null == name) ? result.element(keys[index]) : result.property(name);
+        }
+        return result;
+    }
+
+}
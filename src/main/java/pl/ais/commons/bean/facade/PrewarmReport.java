@@ -0,0 +1,60 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.time.Duration;
+
+/**
+ * Summary of the facade classes prewarming.
+ *
+ * @author Warlock, AIS.PL
+ * @see Facade#prewarm(Class[])
+ * @since 1.4.3
+ */
+@Immutable
+public final class PrewarmReport {
+
+    private final int classCount;
+
+    private final Duration duration;
+
+    private final int generatedClassCount;
+
+    PrewarmReport(final int classCount, final int generatedClassCount, @Nonnull final Duration duration) {
+        this.classCount = classCount;
+        this.generatedClassCount = generatedClassCount;
+        this.duration = duration;
+    }
+
+    /**
+     * @return number of the classes for which the proxy classes (and field copiers) have been prepared, including
+     * the classes for which they were already available
+     */
+    public int getClassCount() {
+        return classCount;
+    }
+
+    /**
+     * @return number of the proxy classes generated at runtime while prewarming (not available before)
+     */
+    public int getGeneratedClassCount() {
+        return generatedClassCount;
+    }
+
+    /**
+     * @return time spent on prewarming
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("Prewarmed %d facade classes (%d generated) in %d ms", classCount, generatedClassCount,
+            duration.toMillis());
+    }
+
+}
@@ -0,0 +1,262 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
+
+/**
+ * Path to the (potentially nested) property, or the element of collection/map being the property value.
+ *
+ * <p>Path is an immutable chain of segments, each of them pointing to its parent, so the paths sharing the prefix
+ * share also the segments representing the prefix (for example the paths to the elements of the same collection
+ * share the path to the collection). Hash code is computed once, when the segment is created, and the path is
+ * rendered (in the {@link PathFormat format} requested) only on demand.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+public final class PropertyPath {
+
+    private static final PropertyPath ROOT = new PropertyPath();
+
+    private final int depth;
+
+    private final int hash;
+
+    private final int index;
+
+    private final Object key;
+
+    private final Kind kind;
+
+    private final PropertyPath parent;
+
+    private PropertyPath() {
+        kind = Kind.ROOT;
+        parent = null;
+        key = null;
+        index = 0;
+        depth = 0;
+        hash = 1;
+    }
+
+    private PropertyPath(@Nonnull final PropertyPath parent, @Nonnull final Kind kind, @Nullable final Object key,
+                         final int index) {
+        this.parent = parent;
+        this.kind = kind;
+        this.key = key;
+        this.index = index;
+        depth = parent.depth + 1;
+        hash = 31 * (31 * parent.hash + kind.hashCode()) + ((Kind.INDEX == kind) ? index : Objects.hashCode(key));
+    }
+
+    /**
+     * Parses given path (in Spring bean property path format, like {@code activities[1].name}).
+     *
+     * @param path the path to be parsed, {@code null} or empty string denote the root path
+     * @return parsed path
+     * @throws IllegalArgumentException if given path is malformed
+     */
+    @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
+    public static PropertyPath parse(@Nullable final String path) {
+        PropertyPath result = ROOT;
+        final int length = (null == path) ? 0 : path.length();
+        int position = 0;
+        while (position < length) {
+            final char current = path.charAt(position);
+            if ('[' == current) {
+                final int end = path.indexOf(']', position);
+                if (0 > end) {
+                    throw new IllegalArgumentException("Unclosed element key in path: " + path);
+                }
+                final String key = path.substring(position + 1, end);
+                if ((1 < key.length()) && (('\'' == key.charAt(0)) || ('"' == key.charAt(0)))) {
+                    result = result.element(key.substring(1, key.length() - 1));
+                } else {
+                    try {
+                        result = result.element(Integer.parseInt(key));
+                    } catch (final NumberFormatException exception) {
+                        throw new IllegalArgumentException("Malformed element index in path: " + path, exception);
+                    }
+                }
+                position = end + 1;
+            } else if ('.' == current) {
+                position++;
+            } else {
+                int end = position;
+                while ((end < length) && ('.' != path.charAt(end)) && ('[' != path.charAt(end))) {
+                    end++;
+                }
+                result = result.property(path.substring(position, end));
+                position = end;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the root path (pointing to the object itself)
+     */
+    public static PropertyPath root() {
+        return ROOT;
+    }
+
+    /**
+     * Creates and returns the path to the element of collection (pointed by this path) at given index.
+     *
+     * @param index the element index
+     * @return the path to the element of collection at given index
+     */
+    public PropertyPath element(final int index) {
+        return new PropertyPath(this, Kind.INDEX, null, index);
+    }
+
+    /**
+     * Creates and returns the path to the element of collection/map (pointed by this path) having given key.
+     *
+     * @param key the element key (or index)
+     * @return the path to the element of collection/map having given key
+     */
+    public PropertyPath element(@Nullable final Object key) {
+        return (key instanceof Integer) ? element(((Integer) key).intValue()) : new PropertyPath(this, Kind.KEY, key, 0);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public boolean equals(final Object object) {
+        boolean result = (this == object);
+        if (!result && (object instanceof PropertyPath)) {
+            PropertyPath current = this;
+            PropertyPath other = (PropertyPath) object;
+            result = (hash == other.hash) && (depth == other.depth);
+            while (result && (current != other)) {
+                result = (current.kind == other.kind) && (current.index == other.index) && Objects.equals(current.key, other.key);
+                current = current.parent;
+                other = other.parent;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the path to the parent property (or collection/map), or {@code null} for the root path
+     */
+    @Nullable
+    public PropertyPath getParent() {
+        return parent;
+    }
+
+    /**
+     * @return a hash code value for this path
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * @return {@code true} if this is the root path (pointing to the object itself), {@code false} otherwise
+     */
+    public boolean isRoot() {
+        return Kind.ROOT == kind;
+    }
+
+    /**
+     * Creates and returns the path to the property (of the object pointed by this path) having given name.
+     *
+     * @param name the property name
+     * @return the path to the property having given name
+     */
+    public PropertyPath property(@Nonnull final String name) {
+        return new PropertyPath(this, Kind.PROPERTY, name, 0);
+    }
+
+    /**
+     * Renders this path using given format.
+     *
+     * @param format the format to be used
+     * @return rendered path
+     */
+    public String render(@Nonnull final PathFormat format) {
+
+        // Collect the segments (starting from the root), ...
+        final PropertyPath[] segments = new PropertyPath[depth];
+        PropertyPath current = this;
+        for (int index = depth - 1; index >= 0; index--) {
+            segments[index] = current;
+            current = current.parent;
+        }
+
+        // ... and render them.
+        final StringBuilder builder = new StringBuilder();
+        format.appendRoot(builder);
+        for (int index = 0; index < depth; index++) {
+            final PropertyPath segment = segments[index];
+            if (Kind.PROPERTY == segment.kind) {
+                format.appendProperty(builder, (String) segment.key, 0 == index);
+            } else if (Kind.INDEX == segment.kind) {
+                format.appendIndex(builder, segment.index);
+            } else {
+                format.appendKey(builder, segment.key);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Records the segments of this path (starting from the root) using given recorder.
+     *
+     * @param recorder the path recorder
+     */
+    void replay(@Nonnull final PathRecorder recorder) {
+        if (!isRoot()) {
+            parent.replay(recorder);
+            if (Kind.PROPERTY == kind) {
+                recorder.recordProperty((String) key);
+            } else {
+                recorder.recordElement((Kind.INDEX == kind) ? Integer.valueOf(index) : key);
+            }
+        }
+    }
+
+    /**
+     * Resolves given path against this path.
+     *
+     * @param relative the path relative to this path
+     * @return the path being the concatenation of this path, and given relative path
+     */
+    public PropertyPath resolve(@Nonnull final PropertyPath relative) {
+        PropertyPath result = this;
+        if (isRoot()) {
+            result = relative;
+        } else if (!relative.isRoot()) {
+            result = resolve(relative.parent);
+            result = new PropertyPath(result, relative.kind, relative.key, relative.index);
+        }
+        return result;
+    }
+
+    /**
+     * @return this path in Spring bean property path format (like {@code activities[1].name})
+     * @see PathFormat#BEAN_PATH
+     */
+    @Override
+    public String toString() {
+        return render(PathFormat.BEAN_PATH);
+    }
+
+    /**
+     * Kinds of the path segments.
+     */
+    private enum Kind {
+
+        INDEX, KEY, PROPERTY, ROOT
+
+    }
+
+}
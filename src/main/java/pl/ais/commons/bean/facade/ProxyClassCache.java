@@ -0,0 +1,393 @@
+package pl.ais.commons.bean.facade;
+
+import net.sf.cglib.core.DefaultGeneratorStrategy;
+import net.sf.cglib.proxy.Dispatcher;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
+import org.objenesis.instantiator.sun.UnsafeFactoryInstantiator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static pl.ais.commons.bean.facade.ClassPredicates.inheritable;
+import static pl.ais.commons.bean.facade.ClassPredicates.is;
+import static pl.ais.commons.bean.facade.ClassPredicates.proxyable;
+import static pl.ais.commons.bean.facade.FacadeCallbackFilter.DISPATCHING;
+import static pl.ais.commons.bean.facade.FacadeCallbackFilter.INTERCEPTING;
+import static pl.ais.commons.bean.facade.FieldCopier.copierFor;
+import static pl.ais.commons.bean.facade.MethodPredicates.accessor;
+import static pl.ais.commons.bean.facade.MethodPredicates.finalMethod;
+import static pl.ais.commons.bean.facade.MethodPredicates.privateMethod;
+import static pl.ais.commons.bean.facade.MethodPredicates.staticMethod;
+
+/**
+ * Cache of the proxy classes generated for the facades.
+ *
+ * <p>Proxy class is determined by the superclass, set of implemented interfaces and the class loader, all of them
+ * being derived from the class of proxied instance. Therefore the cache is keyed by the proxied class, and held by
+ * {@link ClassValue}, which doesn't prevent the class (and its class loader) from being unloaded. CGLIB
+ * {@link Enhancer} (and its internal cache) is consulted only on the first request for given class.
+ *
+ * <p>For the classes annotated with {@link Facaded} the facade class generated at compile time is used instead, if
+ * available. On Java 15 and later, equivalent facade class is generated at runtime for other classes, and defined as
+ * the hidden class (see {@link HiddenClasses}), which is not registered in the class loader of proxied class, and
+ * can be unloaded once it's not used anymore. CGLIB is used when hidden classes are not supported, or when the
+ * facade class cannot be defined this way (for example for the classes from the packages not open to this library).
+ *
+ * <p>For the proxies created by other libraries (see {@link ForeignProxyHandler}), the facade class is built for the
+ * types proxied by them, and its instances only delegate to the proxies, without copying their state.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+final class ProxyClassCache {
+
+    private static final ObjenesisStd OBJENESIS = new ObjenesisStd(false);
+
+    private static final ThreadLocal<int[]> GENERATED_CLASS_COUNTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final ClassValue<ProxyClass<?>> PROXY_CLASSES = new ClassValue<ProxyClass<?>>() {
+
+        @Override
+        protected ProxyClass<?> computeValue(final Class<?> type) {
+            return createProxyClass(type);
+        }
+
+    };
+
+    private ProxyClassCache() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    private static void classGenerated(final Class<?> instanceClass, final long duration, final int size) {
+        GENERATED_CLASS_COUNTS.get()[0]++;
+        FacadeMetrics.classGenerated(instanceClass, duration, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ProxyClass<T> createForeignProxyClass(final Class<T> instanceClass, final Class<?>[] proxiedTypes) {
+        final long start = System.nanoTime();
+        final int[] size = new int[1];
+        final Class<?> superclass = proxiedTypes[0].isInterface() ? Object.class : proxiedTypes[0];
+        final Class<?>[] interfaces = proxiedTypes[0].isInterface() ? proxiedTypes
+            : Arrays.copyOfRange(proxiedTypes, 1, proxiedTypes.length);
+
+        // Facade of the foreign proxy extends the class proxied by it, and implements the interfaces proxied by it.
+        Class<T> hiddenClass = null;
+        if ((0 == interfaces.length) && (Object.class != superclass) && HiddenClasses.isSupported()
+            && FacadeClassGenerator.supports(superclass)) {
+            final byte[] bytecode = FacadeClassGenerator.generate(superclass, superclass.getName() + "$$ForeignFacade");
+            hiddenClass = (Class<T>) HiddenClasses.define(superclass, bytecode);
+            size[0] = bytecode.length;
+        }
+        final ProxyClass<T> result = (null == hiddenClass)
+            ? generateProxyClass((Class<? super T>) superclass, (0 == interfaces.length) ? null : interfaces, size, true)
+            : new ProxyClass<>(hiddenClass, new UnsafeFactoryInstantiator<>(hiddenClass), false, true);
+        classGenerated(instanceClass, System.nanoTime() - start, size[0]);
+        return result;
+    }
+
+    private static <T> ProxyClass<T> createProxyClass(final Class<T> instanceClass) {
+        final Class<?>[] proxiedTypes = ForeignProxies.proxiedTypesOf(instanceClass);
+        if (null != proxiedTypes) {
+            return createForeignProxyClass(instanceClass, proxiedTypes);
+        }
+        ProxyClass<T> result;
+        final Class<T> generatedClass = findGeneratedClass(instanceClass);
+        if (null == generatedClass) {
+            final long start = System.nanoTime();
+            final int[] size = new int[1];
+            final Class<T> hiddenClass = defineHiddenClass(instanceClass, size);
+
+            // Hidden class cannot be referred to by name, so it's instantiated without any generated accessor.
+            result = (null == hiddenClass)
+                ? generateProxyClass(determineSuperclass(instanceClass), determineInterfaces(instanceClass), size, false)
+                : new ProxyClass<>(hiddenClass, new UnsafeFactoryInstantiator<>(hiddenClass), declaresAccessorsNotOverriddenBy(hiddenClass), false);
+            classGenerated(instanceClass, System.nanoTime() - start, size[0]);
+        } else {
+            result = new ProxyClass<>(generatedClass, OBJENESIS.getInstantiatorOf(generatedClass), declaresAccessorsNotOverriddenBy(generatedClass), false);
+        }
+        return result;
+    }
+
+    /**
+     * Defines the facade class for given class as the hidden class, if supported.
+     *
+     * @param instanceClass class of the instance to be proxied
+     * @param size          holder of the size of hidden class bytecode
+     * @param <T>           type of the instance to be proxied
+     * @return the hidden facade class, or {@code null} if it cannot be defined
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> defineHiddenClass(final Class<T> instanceClass, final int[] size) {
+        Class<T> result = null;
+        if (HiddenClasses.isSupported() && FacadeClassGenerator.supports(instanceClass)) {
+            final byte[] bytecode = FacadeClassGenerator.generate(instanceClass, instanceClass.getName() + "$$Facade");
+            result = (Class<T>) HiddenClasses.define(instanceClass, bytecode);
+            size[0] = bytecode.length;
+        }
+        return result;
+    }
+
+    /**
+     * Generates the facade class using CGLIB.
+     *
+     * @param superclass the class to be extended by the facade
+     * @param interfaces the interfaces to be implemented by the facade, may be {@code null}
+     * @param size       holder of the size of generated class bytecode
+     * @param delegating indicates if the facade is built over the foreign proxy (and only delegates to it)
+     * @param <T>        type of the instance to be proxied
+     * @return the facade class
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ProxyClass<T> generateProxyClass(final Class<? super T> superclass, final Class<?>[] interfaces,
+                                                        final int[] size, final boolean delegating) {
+
+        // Create CGLIB Enhancer using given superclass of the proxy we intend to create (recording the size of
+        // generated class), ...
+        final Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(superclass);
+        enhancer.setStrategy(new DefaultGeneratorStrategy() {
+
+            @Override
+            protected byte[] transform(final byte[] bytecode) {
+                size[0] = bytecode.length;
+                return bytecode;
+            }
+
+        });
+
+        // ... specify set of interfaces to be implemented by the proxy, ...
+        enhancer.setInterfaces(interfaces);
+
+        // ... define the types of callbacks to be used, and the way they are assigned to the methods, ...
+        enhancer.setCallbackTypes(new Class<?>[] {MethodInterceptor.class, Dispatcher.class});
+        enhancer.setCallbackFilter(FacadeCallbackFilter.INSTANCE);
+
+        // ... and create the proxied class (skipping creating the instance for now).
+        final Class<T> proxiedClass = enhancer.createClass();
+        return new ProxyClass<>(proxiedClass, OBJENESIS.getInstantiatorOf(proxiedClass),
+            !delegating && declaresAccessorsNotOverriddenBy(proxiedClass), delegating);
+    }
+
+    /**
+     * Verifies if the class proxied by given facade class (or any of its superclasses, except {@link Object})
+     * declares the accessors which are not overridden by the facade class (like final ones), and therefore are
+     * executed by the facade itself, requiring it to hold the state of proxied instance.
+     *
+     * @param facadeClass the facade class to be verified
+     * @return {@code true} if some of the accessors are not overridden by given facade class, {@code false} otherwise
+     */
+    private static boolean declaresAccessorsNotOverriddenBy(final Class<?> facadeClass) {
+        boolean result = false;
+        for (Class<?> current = facadeClass.getSuperclass(); !result && (null != current) && (Object.class != current); current = current.getSuperclass()) {
+            result = Arrays.stream(current.getDeclaredMethods())
+                           .anyMatch(privateMethod().negate()
+                                                    .and(staticMethod().negate())
+                                                    .and(method -> !method.isBridge() && MethodInfo.of(method).isIntercepted())
+                                                    .and(method -> !isOverriddenBy(facadeClass, method)));
+        }
+        return result;
+    }
+
+    private static boolean isOverriddenBy(final Class<?> facadeClass, final Method method) {
+        boolean result;
+        try {
+            facadeClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+            result = true;
+        } catch (final NoSuchMethodException exception) {
+            result = false;
+        }
+        return result;
+    }
+
+    private static <T> Class<?>[] determineInterfaces(final Class<T> aClass) {
+        final Class<?>[] interfaces = aClass.getInterfaces();
+        return aClass.isInterface() ? new Class<?>[] {aClass} : (0 == interfaces.length ? null : interfaces);
+    }
+
+    private static <T> Class<? super T> determineSuperclass(@Nonnull final Class<T> candidate) {
+        return is(candidate, inheritable()) ? candidate : determineSuperclass(candidate.getSuperclass());
+    }
+
+    /**
+     * Finds the facade class generated at compile time for given class, if it's annotated with {@link Facaded}.
+     *
+     * @param instanceClass class of the instance to be proxied
+     * @param <T>           type of the instance to be proxied
+     * @return the facade class generated for given class, or {@code null} if there is no such class
+     */
+    @SuppressWarnings({"unchecked", "PMD.EmptyCatchBlock"})
+    private static <T> Class<T> findGeneratedClass(final Class<T> instanceClass) {
+        Class<T> result = null;
+        if (instanceClass.isAnnotationPresent(Facaded.class)) {
+            final String packageName = (null == instanceClass.getPackage()) ? "" : instanceClass.getPackage().getName();
+            final String simpleName = instanceClass.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+            final String generatedName = (packageName.isEmpty() ? "" : packageName + '.') + simpleName.replace('$', '_') + "_Facade";
+            try {
+                final Class<?> candidate = Class.forName(generatedName, true, instanceClass.getClassLoader());
+                if ((instanceClass == candidate.getSuperclass()) && GeneratedFacade.class.isAssignableFrom(candidate)) {
+                    result = (Class<T>) candidate;
+                }
+            } catch (final ClassNotFoundException exception) {
+                // Facade class has not been generated (annotation processing was disabled), CGLIB will be used.
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Prepares the proxy class (and the field copier) for given instance class, caching them for later use.
+     *
+     * @param instanceClass class of the instance to be proxied
+     * @return {@code true} if the proxy class has been generated at runtime by this call, {@code false} if it has
+     * been prepared before, or generated at compile time
+     */
+    static boolean prepare(@Nonnull final Class<?> instanceClass) {
+        final int[] generatedClassCount = GENERATED_CLASS_COUNTS.get();
+        final int before = generatedClassCount[0];
+        copierFor(proxyClassFor(instanceClass).getType().getSuperclass());
+        return before != generatedClassCount[0];
+    }
+
+    /**
+     * Determines the classes which instances can be proxied by the facades built over the instances of given classes
+     * (or the facades returned by them), by walking the accessor return types (including type arguments of generic
+     * return types, like collection element types) reachable from given classes.
+     *
+     * <p>Only concrete classes are returned, because proxy classes are created for the runtime classes of proxied
+     * instances (interfaces and abstract classes are walked through, though).
+     *
+     * @param roots the classes to start from
+     * @return concrete, proxyable classes reachable from given classes
+     */
+    static Set<Class<?>> proxyableClassesReachableFrom(@Nonnull final Class<?>... roots) {
+        final Set<Class<?>> visited = new HashSet<>();
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        final Deque<Type> pending = new ArrayDeque<>(Arrays.asList(roots));
+        while (!pending.isEmpty()) {
+            final Type type = pending.poll();
+            if (type instanceof ParameterizedType) {
+                pending.add(((ParameterizedType) type).getRawType());
+                pending.addAll(Arrays.asList(((ParameterizedType) type).getActualTypeArguments()));
+            } else if (type instanceof WildcardType) {
+                pending.addAll(Arrays.asList(((WildcardType) type).getUpperBounds()));
+            } else if ((type instanceof Class) && visited.add((Class<?>) type) && is((Class<?>) type, proxyable())) {
+                final Class<?> candidate = (Class<?>) type;
+                if (!candidate.isInterface() && !Modifier.isAbstract(candidate.getModifiers())) {
+                    result.add(candidate);
+                }
+                for (final Method method : candidate.getMethods()) {
+                    if (accessor().and(finalMethod().negate()).and(staticMethod().negate()).test(method)) {
+                        pending.add(method.getGenericReturnType());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Provides the proxy class for given instance class, generating it if needed.
+     *
+     * @param instanceClass class of the instance to be proxied
+     * @param <T>           type of the instance to be proxied
+     * @return proxy class for given instance class
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ProxyClass<T> proxyClassFor(@Nonnull final Class<T> instanceClass) {
+        if (FacadeMetrics.isInstanceMetricsEnabled()) {
+            FacadeMetrics.proxyClassLookedUp();
+        }
+        return (ProxyClass<T>) PROXY_CLASSES.get(instanceClass);
+    }
+
+    /**
+     * Proxy class (generated by CGLIB, at compile time, or at runtime as the hidden class) for the facades, accompanied by the instantiator of its
+     * instances.
+     *
+     * @param <T> type of the proxied instances
+     */
+    @ThreadSafe
+    static final class ProxyClass<T> {
+
+        private final boolean delegating;
+
+        private final ObjectInstantiator<T> instantiator;
+
+        private final boolean stateful;
+
+        private final Class<T> type;
+
+        ProxyClass(final Class<T> type, final ObjectInstantiator<T> instantiator, final boolean stateful,
+                   final boolean delegating) {
+            this.delegating = delegating;
+            this.type = type;
+            this.instantiator = instantiator;
+            this.stateful = stateful;
+        }
+
+        /**
+         * @return the proxy class itself
+         */
+        Class<T> getType() {
+            return type;
+        }
+
+        /**
+         * Indicates if the proxy instances are built over the foreign proxies, and therefore only delegate to them,
+         * never copying their state (which could force their initialization).
+         *
+         * @return {@code true} if the proxy instances only delegate to the proxied instances, {@code false} otherwise
+         */
+        boolean isDelegating() {
+            return delegating;
+        }
+
+        /**
+         * Indicates if the proxy instances need the state of proxied instance, because some of the accessors
+         * (like final ones) are not overridden by the proxy class, and therefore cannot be delegated to the proxied
+         * instance.
+         *
+         * @return {@code true} if the proxy instances need the state of proxied instance, {@code false} otherwise
+         */
+        boolean isStateful() {
+            return stateful;
+        }
+
+        /**
+         * Creates new instance of the proxy class (without calling any constructor), using given interceptor.
+         *
+         * @param interceptor interceptor to be used by created instance, both for intercepting and dispatching
+         * @return newly created instance of the proxy class
+         */
+        T newInstance(@Nonnull final DelegatingMethodInterceptor interceptor) {
+            final T proxy = instantiator.newInstance();
+            if (proxy instanceof GeneratedFacade) {
+                ((GeneratedFacade) proxy).setFacadeCallback(interceptor);
+            } else {
+                final Factory factory = (Factory) proxy;
+                factory.setCallback(INTERCEPTING, interceptor);
+                factory.setCallback(DISPATCHING, interceptor);
+            }
+            return proxy;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Handle of the path detached from the {@link TraverseListener}, allowing to defer building the {@link PropertyPath}
+ * until it's really needed (for example until the constraint violation is reported).
+ *
+ * <p>Handle doesn't hold the path itself, path segments are still held by the listener, until the handle is
+ * released. Handle can be reused after being released.
+ *
+ * @author Warlock, AIS.PL
+ * @see TraverseListener#detach(RecordedPath)
+ * @since 1.4.3
+ */
+@NotThreadSafe
+public final class RecordedPath {
+
+    /**
+     * Index of the first segment of the path (within the listener segments).
+     */
+    int from;
+
+    /**
+     * Index following the last segment of the path (within the listener segments).
+     */
+    int to;
+
+    /**
+     * Indicates if this handle holds the detached path.
+     */
+    boolean detached;
+
+    /**
+     * @return {@code true} if this handle holds the path detached (and not released yet), {@code false} otherwise
+     */
+    public boolean isDetached() {
+        return detached;
+    }
+
+}
@@ -0,0 +1,86 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Standard formats of the property paths.
+ *
+ * @author Warlock, AIS.PL
+ * @see PathFormat
+ * @since 1.4.3
+ */
+enum StandardPathFormat implements PathFormat {
+
+    BEAN_PATH {
+        @Override
+        public void appendKey(@Nonnull final StringBuilder builder, @Nullable final Object key) {
+            if (key instanceof String) {
+                builder.append("['").append(key).append("']");
+            } else {
+                builder.append('[').append(key).append(']');
+            }
+        }
+
+        @Override
+        public void appendProperty(@Nonnull final StringBuilder builder, @Nonnull final String name, final boolean first) {
+            if (!first) {
+                builder.append('.');
+            }
+            builder.append(name);
+        }
+
+        @Override
+        public void appendRoot(@Nonnull final StringBuilder builder) {
+            // Root is not rendered at all.
+        }
+    },
+
+    JSON_PATH {
+        @Override
+        public void appendKey(@Nonnull final StringBuilder builder, @Nullable final Object key) {
+            builder.append("['").append(String.valueOf(key).replace("\\", "\\\\").replace("'", "\\'")).append("']");
+        }
+
+        @Override
+        public void appendProperty(@Nonnull final StringBuilder builder, @Nonnull final String name, final boolean first) {
+            builder.append('.').append(name);
+        }
+
+        @Override
+        public void appendRoot(@Nonnull final StringBuilder builder) {
+            builder.append('$');
+        }
+    },
+
+    JSON_POINTER {
+        @Override
+        public void appendIndex(@Nonnull final StringBuilder builder, final int index) {
+            builder.append('/').append(index);
+        }
+
+        @Override
+        public void appendKey(@Nonnull final StringBuilder builder, @Nullable final Object key) {
+            builder.append('/').append(String.valueOf(key).replace("~", "~0").replace("/", "~1"));
+        }
+
+        @Override
+        public void appendProperty(@Nonnull final StringBuilder builder, @Nonnull final String name, final boolean first) {
+            appendKey(builder, name);
+        }
+
+        @Override
+        public void appendRoot(@Nonnull final StringBuilder builder) {
+            // Root is represented by the empty string.
+        }
+    };
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendIndex(@Nonnull final StringBuilder builder, final int index) {
+        builder.append('[').append(index).append(']');
+    }
+
+}
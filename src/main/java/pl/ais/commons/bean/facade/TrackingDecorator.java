@@ -0,0 +1,18 @@
+package pl.ais.commons.bean.facade;
+
+/**
+ * Defines the API contract of the path tracking decorators.
+ *
+ * @param <T> the type of decorated instance
+ * @author Warlock, AIS.PL
+ * @see TrackingDecorators
+ * @since 1.4.3
+ */
+interface TrackingDecorator<T> {
+
+    /**
+     * @return the decorated instance
+     */
+    T getDelegate();
+
+}
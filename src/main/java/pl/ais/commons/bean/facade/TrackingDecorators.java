@@ -0,0 +1,105 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static pl.ais.commons.bean.facade.ClassPredicates.is;
+import static pl.ais.commons.bean.facade.ClassPredicates.proxyable;
+
+/**
+ * Provides set of methods usable for decorating the lists, sets, maps, iterators and optionals returned by the
+ * facade accessors with the path tracking decorators.
+ *
+ * <p>Decorators track down the access to the elements (both direct, and through the iteration or streaming), and
+ * proxy the elements, without generating any classes, or copying the state of decorated instances. Value is
+ * decorated if the decorator matches the type declared by the accessor, or if the value cannot be proxied otherwise
+ * (the elements of decorated instances are decorated only in the latter case, because their declared types are
+ * unknown).
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+final class TrackingDecorators {
+
+    private TrackingDecorators() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Decorates given value.
+     *
+     * @param owner    the interceptor of the facade which returned the value
+     * @param accessor the accessor which returned the value
+     * @param value    the value to be decorated
+     * @return the decorated value
+     * @throws IllegalArgumentException if given value cannot be decorated
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static Object decorate(@Nonnull final DelegatingMethodInterceptor owner, @Nonnull final Method accessor,
+                           @Nonnull final Object value) {
+        final Object result;
+        if (value instanceof Optional) {
+            result = ((Optional<?>) value).map(element -> owner.proxyIfNeeded(accessor, null, element));
+        } else if (value instanceof List) {
+            result = new TrackingList<>(owner, accessor, (List) value);
+        } else if (value instanceof Set) {
+            result = new TrackingSet<>(owner, accessor, (Set) value);
+        } else if (value instanceof Map) {
+            result = new TrackingMap<>(owner, accessor, (Map) value);
+        } else if (value instanceof Iterator) {
+            result = new TrackingIterator<>(owner, accessor, (Iterator) value);
+        } else {
+            throw new IllegalArgumentException("Object of " + value.getClass() + " cannot be decorated.");
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Class<?> decoratorTypeFor(final Object value) {
+        Class<?> result = null;
+        if (value instanceof Optional) {
+            result = ((Optional<?>) value).isPresent() ? Optional.class : null;
+        } else if (!isDecorator(value)) {
+            if (value instanceof List) {
+                result = TrackingList.class;
+            } else if (value instanceof Set) {
+                result = TrackingSet.class;
+            } else if (value instanceof Map) {
+                result = TrackingMap.class;
+            } else if (value instanceof Iterator) {
+                result = TrackingIterator.class;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Verifies if given value should be decorated.
+     *
+     * @param declaredType the type declared by the accessor which returned the value, {@code null} if unknown
+     * @param value        the value
+     * @return {@code true} if given value should be decorated, {@code false} otherwise
+     */
+    static boolean isApplicable(@Nullable final Class<?> declaredType, @Nonnull final Object value) {
+        final Class<?> decoratorType = decoratorTypeFor(value);
+        return (null != decoratorType)
+            && ((null == declaredType) ? !is(value.getClass(), proxyable()) : declaredType.isAssignableFrom(decoratorType));
+    }
+
+    /**
+     * Verifies if given object has been created by {@link #decorate(DelegatingMethodInterceptor, Method, Object)}.
+     *
+     * @param object the object to be verified
+     * @return {@code true} if given object is the decorator, {@code false} otherwise
+     */
+    static boolean isDecorator(final Object object) {
+        return (object instanceof TrackingDecorator) || (object instanceof Optional);
+    }
+
+}
@@ -0,0 +1,71 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+
+/**
+ * Iterator tracking down the elements it provides (as the elements at subsequent indexes of the collection, which
+ * path has been recorded when the iterator was created), and proxying them.
+ *
+ * @param <E> the type of elements
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@NotThreadSafe
+final class TrackingIterator<E> implements Iterator<E>, TrackingDecorator<Iterator<E>> {
+
+    private final Method accessor;
+
+    private final Iterator<E> delegate;
+
+    private int index;
+
+    private final DelegatingMethodInterceptor owner;
+
+    private final PropertyPath path;
+
+    TrackingIterator(@Nonnull final DelegatingMethodInterceptor owner, @Nonnull final Method accessor,
+                     @Nonnull final Iterator<E> delegate) {
+        this.accessor = accessor;
+        this.delegate = delegate;
+        this.owner = owner;
+        path = owner.currentPath();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<E> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return delegate.hasNext();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        final E element = delegate.next();
+        return (E) owner.onElementAccess(accessor, path, index++, element);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove() {
+        delegate.remove();
+    }
+
+}
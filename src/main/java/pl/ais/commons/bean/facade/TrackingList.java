@@ -0,0 +1,180 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.lang.reflect.Method;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * List tracking down the access to its elements (including iteration and streaming), and proxying them.
+ *
+ * <p>All other operations are delegated directly to the decorated list.
+ *
+ * @param <E> the type of elements
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@NotThreadSafe
+final class TrackingList<E> extends AbstractList<E> implements TrackingDecorator<List<E>> {
+
+    private final Method accessor;
+
+    private final List<E> delegate;
+
+    private final DelegatingMethodInterceptor owner;
+
+    TrackingList(@Nonnull final DelegatingMethodInterceptor owner, @Nonnull final Method accessor,
+                 @Nonnull final List<E> delegate) {
+        super();
+        this.accessor = accessor;
+        this.delegate = delegate;
+        this.owner = owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final int index, final E element) {
+        delegate.add(index, element);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Object object) {
+        return delegate.contains(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsAll(final Collection<?> collection) {
+        return delegate.containsAll(collection);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object object) {
+        return (this == object) || delegate.equals(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        final E element = delegate.get(index);
+        return (E) owner.onElementAccess(accessor, index, element);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<E> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(final Object object) {
+        return delegate.indexOf(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TrackingIterator<>(owner, accessor, delegate.iterator());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOf(final Object object) {
+        return delegate.lastIndexOf(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E remove(final int index) {
+        return delegate.remove(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E set(final int index, final E element) {
+        return delegate.set(index, element);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Iterator used by the spliterator is created immediately, to record the path to this list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object[] toArray() {
+        return delegate.toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("PMD.UseVarargs")
+    public <T> T[] toArray(final T[] array) {
+        return delegate.toArray(array);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+}
@@ -0,0 +1,212 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.lang.reflect.Method;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map tracking down the access to its values (including iteration over the entries and values), and proxying them.
+ *
+ * <p>All other operations are delegated directly to the decorated map.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@NotThreadSafe
+final class TrackingMap<K, V> extends AbstractMap<K, V> implements TrackingDecorator<Map<K, V>> {
+
+    private final Method accessor;
+
+    private final Map<K, V> delegate;
+
+    private final DelegatingMethodInterceptor owner;
+
+    TrackingMap(@Nonnull final DelegatingMethodInterceptor owner, @Nonnull final Method accessor,
+                @Nonnull final Map<K, V> delegate) {
+        super();
+        this.accessor = accessor;
+        this.delegate = delegate;
+        this.owner = owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final Object key) {
+        return delegate.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValue(final Object value) {
+        return delegate.containsValue(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return delegate.size();
+            }
+
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object object) {
+        return (this == object) || delegate.equals(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        final V value = delegate.get(key);
+        return (V) owner.onElementAccess(accessor, key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<K, V> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<K> keySet() {
+        return delegate.keySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(final K key, final V value) {
+        return delegate.put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> map) {
+        delegate.putAll(map);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(final Object key) {
+        return delegate.remove(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    /**
+     * Iterator tracking down the entries it provides (as the elements having subsequent keys of the map, which path
+     * has been recorded when the iterator was created), and proxying their values.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final Iterator<Entry<K, V>> entries = delegate.entrySet().iterator();
+
+        private final PropertyPath path = owner.currentPath();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            final Entry<K, V> entry = entries.next();
+            final K key = entry.getKey();
+            return new SimpleImmutableEntry<>(key, (V) owner.onElementAccess(accessor, path, key, entry.getValue()));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            entries.remove();
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.lang.reflect.Method;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Set tracking down the access to its elements (through iteration and streaming, elements are indexed in the
+ * iteration order), and proxying them.
+ *
+ * <p>All other operations are delegated directly to the decorated set.
+ *
+ * @param <E> the type of elements
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@NotThreadSafe
+final class TrackingSet<E> extends AbstractSet<E> implements TrackingDecorator<Set<E>> {
+
+    private final Method accessor;
+
+    private final Set<E> delegate;
+
+    private final DelegatingMethodInterceptor owner;
+
+    TrackingSet(@Nonnull final DelegatingMethodInterceptor owner, @Nonnull final Method accessor,
+                @Nonnull final Set<E> delegate) {
+        super();
+        this.accessor = accessor;
+        this.delegate = delegate;
+        this.owner = owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(final E element) {
+        return delegate.add(element);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Object object) {
+        return delegate.contains(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsAll(final Collection<?> collection) {
+        return delegate.containsAll(collection);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object object) {
+        return (this == object) || delegate.equals(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TrackingIterator<>(owner, accessor, delegate.iterator());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(final Object object) {
+        return delegate.remove(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Iterator used by the spliterator is created immediately, to record the path to this set.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object[] toArray() {
+        return delegate.toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("PMD.UseVarargs")
+    public <T> T[] toArray(final T[] array) {
+        return delegate.toArray(array);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+}
@@ -1,95 +1,192 @@
 package pl.ais.commons.bean.facade;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 import java.lang.reflect.Method;
-import java.util.Stack;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Stream.concat;
 
 /**
  * Listener tracking down the method calls to provide path to accessed property.
  *
+ * <p>Path is recorded without allocating any memory per method call (methods are classified, and property names are
+ * determined once per method, see {@link MethodInfo}), and converted into {@link PropertyPath} only when requested.
+ *
+ * <p>Listener is not thread-safe, unless it's {@link #threadConfined(PropertyPath) thread-confined}.
+ *
  * @author Warlock, AIS.PL
  * @since 1.2.1
  */
 @NotThreadSafe
 public final class TraverseListener {
 
-    private final String basePath;
+    private final PropertyPath basePath;
 
-    private final Stack<String> stack = new Stack<>();
+    /**
+     * Path recorder used by all threads, {@code null} if the listener is thread-confined.
+     */
+    private final PathRecorder recorder;
+
+    /**
+     * Path recorders held per thread, {@code null} if the listener is not thread-confined.
+     */
+    private final ThreadLocal<PathRecorder> recorders;
 
     public TraverseListener() {
-        this(null);
+        this(PropertyPath.root());
     }
 
     public TraverseListener(final String basePath) {
+        this(PropertyPath.parse(basePath));
+    }
+
+    /**
+     * Constructs new instance.
+     *
+     * @param basePath the path to be prepended to the tracked down paths
+     */
+    public TraverseListener(@Nonnull final PropertyPath basePath) {
+        this(basePath, false);
+    }
+
+    private TraverseListener(@Nonnull final PropertyPath basePath, final boolean threadConfined) {
         this.basePath = basePath;
+        recorder = threadConfined ? null : new PathRecorder();
+        recorders = threadConfined ? ThreadLocal.withInitial(PathRecorder::new) : null;
+    }
+
+    /**
+     * Creates and returns the listener tracking down the paths separately for each thread (including virtual
+     * threads), without any locking.
+     *
+     * <p>Such listener can be used by the facade shared by multiple threads (see {@link FacadeOption#SHARED}), each
+     * thread tracks down the path to the properties it accesses, and gets this path from the listener. Paths detached
+     * by the thread should be converted and released by the same thread.
+     *
+     * @param basePath the path to be prepended to the tracked down paths
+     * @return newly created, thread-confined listener
+     */
+    public static TraverseListener threadConfined(@Nonnull final PropertyPath basePath) {
+        return new TraverseListener(basePath, true);
+    }
+
+    /**
+     * @return {@code true} if this listener tracks down the paths separately for each thread, {@code false} otherwise
+     * @see #threadConfined(PropertyPath)
+     */
+    public boolean isThreadConfined() {
+        return null != recorders;
     }
 
     /**
      * @return path to the accessed property
      */
     public String asPath() {
+        return asPropertyPath().toString();
+    }
+
+    /**
+     * Provides the path to the accessed property, and resets the listener.
+     *
+     * @return path to the accessed property
+     */
+    public PropertyPath asPropertyPath() {
         try {
-            return toPath();
+            return toPropertyPath();
         } finally {
             reset();
         }
     }
 
-    private void handleCollectionOrMapElementAccessor(final Object arg) {
-        final String result;
-        if ((null != arg) && String.class.equals(arg.getClass())) {
-            result = new StringBuilder().append("['").append(arg).append("']").toString();
-        } else {
-            result = new StringBuilder().append('[').append(arg).append(']').toString();
-        }
-        if (!stack.isEmpty()) {
-            stack.push(stack.pop() + result);
-        }
+    /**
+     * Detaches the path to the accessed property into given handle, and starts tracking down new path.
+     *
+     * <p>Detached path doesn't allocate any memory, it can be converted into the {@link PropertyPath} later, and
+     * should be released when it's not needed anymore.
+     *
+     * @param path the handle of detached path
+     * @throws IllegalStateException if given handle holds the path detached before (and not released yet)
+     * @see #pathOf(RecordedPath)
+     * @see #release(RecordedPath)
+     */
+    public void detach(@Nonnull final RecordedPath path) {
+        recorder().detach(path);
+    }
+
+    /**
+     * Provides the path to the accessed property, without resetting the listener and prepending the base path.
+     *
+     * @return the path to the accessed property, relative to the base path
+     */
+    PropertyPath currentPath() {
+        return recorder().toPropertyPath(PropertyPath.root());
+    }
+
+    /**
+     * Tracks down the access to the element of collection/map, which has been accessed already.
+     *
+     * @param key the element index or key
+     */
+    void onElementAccess(@Nullable final Object key) {
+        recorder().recordElement(key);
+    }
+
+    /**
+     * Tracks down the access to the element of collection/map pointed by given path, replacing the path recorded
+     * so far (elements being iterated over are accessed this way).
+     *
+     * @param collectionPath the path to the collection/map, relative to the base path
+     * @param key            the element index or key
+     */
+    void onElementAccess(@Nonnull final PropertyPath collectionPath, @Nullable final Object key) {
+        final PathRecorder current = recorder();
+        current.clear();
+        collectionPath.replay(current);
+        current.recordElement(key);
     }
 
-    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.UseVarargs"})
+    @SuppressWarnings("PMD.UseVarargs")
     public void onMethodCall(final Object object, final Method method, final Object[] args) {
-        final char[] name = method.getName().toCharArray();
-        final Class<?> returnType = method.getReturnType();
-        processing:
-        {
-            // Accessors (get*) and mutators (set*), ...
-            if ((3 < name.length) && (('g' == name[0]) || ('s' == name[0])) && ('e' == name[1]) && ('t' == name[2])) {
-                name[3] = Character.toLowerCase(name[3]);
-                stack.push(String.valueOf(name, 3, name.length - 3));
-                break processing;
-            }
-
-            // ... boolean accessors (is*), ...
-            if ((2 < name.length) && ('i' == name[0]) && ('s' == name[1]) && returnType.equals(boolean.class)) {
-                name[2] = Character.toLowerCase(name[2]);
-                stack.push(String.valueOf(name, 2, name.length - 2));
-                break processing;
-            }
-
-            // ... Collection/Map element accessor.
-            if ((3 == name.length) && ('g' == name[0]) && ('e' == name[1]) && ('t' == name[2]) && (1 == method.getParameterCount())) {
-                handleCollectionOrMapElementAccessor(args[0]);
-                break processing;
-            }
+        final MethodInfo methodInfo = MethodInfo.of(method);
+        if (MethodInfo.Kind.ELEMENT_ACCESSOR == methodInfo.getKind()) {
+            recorder().recordElement(args[0]);
+        } else if (MethodInfo.Kind.IGNORED != methodInfo.getKind()) {
+            recorder().recordProperty(methodInfo.getSegmentName());
         }
     }
 
     /**
-     * Resets the listener to the initial state.
+     * Provides the path detached before into given handle.
+     *
+     * @param path the handle of detached path
+     * @return the path to the accessed property
+     * @throws IllegalStateException if given handle doesn't hold any path
+     */
+    public PropertyPath pathOf(@Nonnull final RecordedPath path) {
+        return recorder().toPropertyPath(basePath, path);
+    }
+
+    /**
+     * Releases the path detached before into given handle.
+     *
+     * @param path the handle of detached path
+     */
+    public void release(@Nonnull final RecordedPath path) {
+        recorder().release(path);
+    }
+
+    private PathRecorder recorder() {
+        return (null == recorders) ? recorder : recorders.get();
+    }
+
+    /**
+     * Resets the listener to the initial state (paths detached before are kept, until released).
      */
     public void reset() {
-        stack.clear();
+        recorder().clear();
     }
 
-    private String toPath() {
-        final Stream<String> elements = (null == basePath) ? stack.stream() : concat(Stream.of(basePath), stack.stream());
-        return elements.collect(joining("."));
+    private PropertyPath toPropertyPath() {
+        return recorder().toPropertyPath(basePath);
     }
 
     /**
@@ -97,7 +194,7 @@ public final class TraverseListener {
      */
     @Override
     public String toString() {
-        return String.format("Traversed path: '%s'", toPath());
+        return String.format("Traversed path: '%s'", toPropertyPath());
     }
 
 }
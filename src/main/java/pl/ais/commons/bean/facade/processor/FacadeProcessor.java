@@ -0,0 +1,279 @@
+package pl.ais.commons.bean.facade.processor;
+
+import pl.ais.commons.bean.facade.AccessorSignatures;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Annotation processor generating the facade classes for the classes annotated with
+ * {@link pl.ais.commons.bean.facade.Facaded}.
+ *
+ * <p>Generated facade class extends annotated class, overriding all its public (non-final, non-static) methods.
+ * Accessor calls are tracked down by the {@link pl.ais.commons.bean.facade.FacadeCallback}, and delegated to the
+ * proxied instance, results returned by them are passed through the callback (to be proxied, if possible), all other
+ * calls are delegated to the proxied instance directly. This way generated facades behave like the facades generated
+ * by CGLIB at runtime, without generating any bytecode at runtime.
+ *
+ * <p>Processor is opt-in, it isn't registered as the service, and has to be enabled explicitly (see
+ * {@link pl.ais.commons.bean.facade.Facaded}). Accessors are recognized by the {@link AccessorSignatures}, the same
+ * way as by the facades generated at runtime.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@SupportedAnnotationTypes("pl.ais.commons.bean.facade.Facaded")
+public final class FacadeProcessor extends AbstractProcessor {
+
+    private static final String SUFFIX = "_Facade";
+
+    private static String argumentsOf(final ExecutableElement method) {
+        final List<String> result = new ArrayList<>();
+        for (int index = 0; index < method.getParameters().size(); index++) {
+            result.add("arg" + index);
+        }
+        return String.join(", ", result);
+    }
+
+    private static String boundsOf(final TypeParameterElement parameter) {
+        final List<String> bounds = new ArrayList<>();
+        for (final TypeMirror bound : parameter.getBounds()) {
+            if (!"java.lang.Object".equals(bound.toString())) {
+                bounds.add(bound.toString());
+            }
+        }
+        return bounds.isEmpty() ? parameter.getSimpleName().toString()
+            : parameter.getSimpleName() + " extends " + String.join(" & ", bounds);
+    }
+
+    private static boolean isAccessor(final ExecutableElement method) {
+        final String name = method.getSimpleName().toString();
+        final TypeKind returnKind = method.getReturnType().getKind();
+        final int parameterCount = method.getParameters().size();
+        return AccessorSignatures.isPropertyAccessor(name, parameterCount, TypeKind.VOID == returnKind, TypeKind.BOOLEAN == returnKind)
+            || AccessorSignatures.isElementAccessor(name, parameterCount);
+    }
+
+    private static boolean isOverridable(final ExecutableElement method) {
+        final Set<Modifier> modifiers = method.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.FINAL)
+            && !modifiers.contains(Modifier.STATIC);
+    }
+
+    private static String typeParametersOf(final List<? extends TypeParameterElement> parameters, final boolean withBounds) {
+        return parameters.isEmpty() ? ""
+            : parameters.stream()
+                        .map(parameter -> withBounds ? boundsOf(parameter) : parameter.getSimpleName().toString())
+                        .collect(joining(", ", "<", ">"));
+    }
+
+    private void appendMethod(final StringBuilder source, final String delegateType, final ExecutableElement method,
+                              final ExecutableType methodType, final String constant) {
+        final String name = method.getSimpleName().toString();
+        final TypeMirror returnType = methodType.getReturnType();
+        final String typeParameters = typeParametersOf(method.getTypeParameters(), true);
+
+        // Build the method signature, ...
+        source.append("\n    @Override\n    public ")
+              .append(typeParameters.isEmpty() ? "" : typeParameters + ' ')
+              .append(returnType).append(' ').append(name).append('(');
+        final List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+        for (int index = 0; index < parameterTypes.size(); index++) {
+            final TypeMirror parameterType = parameterTypes.get(index);
+            final boolean varArgs = method.isVarArgs() && (index == parameterTypes.size() - 1);
+            source.append((0 == index) ? "" : ", ").append("final ")
+                  .append(varArgs ? ((ArrayType) parameterType).getComponentType() + "..." : parameterType)
+                  .append(" arg").append(index);
+        }
+        source.append(')');
+        if (!methodType.getThrownTypes().isEmpty()) {
+            source.append(" throws ").append(methodType.getThrownTypes().stream().map(TypeMirror::toString).collect(joining(", ")));
+        }
+        source.append(" {\n");
+
+        // ... and the method body, tracking down the accessor calls, and delegating all the calls to proxied instance.
+        final String call = "((" + delegateType + ") callback.getDelegate())." + name + '(' + argumentsOf(method) + ')';
+        source.append("        final pl.ais.commons.bean.facade.FacadeCallback callback = facade$callback;\n");
+        if (null != constant) {
+            source.append("        callback.beforeAccess(").append(constant).append(", ")
+                  .append(method.getParameters().isEmpty() ? "NO_ARGUMENTS" : "new Object[] {" + argumentsOf(method) + '}')
+                  .append(");\n");
+        }
+        if (TypeKind.VOID == returnType.getKind()) {
+            source.append("        ").append(call).append(";\n");
+        } else if ((null == constant) || returnType.getKind().isPrimitive()) {
+            source.append("        return ").append(call).append(";\n");
+        } else {
+            source.append("        return (").append(returnType).append(") callback.afterAccess(").append(constant)
+                  .append(", ").append(call).append(");\n");
+        }
+        source.append("    }\n");
+    }
+
+    private String generateSource(final TypeElement type, final String packageName, final String facadeName) {
+        final Types types = processingEnv.getTypeUtils();
+        final Elements elements = processingEnv.getElementUtils();
+        final String delegateType = type.getQualifiedName() + typeParametersOf(type.getTypeParameters(), false);
+
+        // Determine the methods to be overridden (avoiding the duplicates inherited from the interfaces), ...
+        final Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (isOverridable(method)) {
+                final String signature = method.getSimpleName() + method.getParameters().stream()
+                                                                         .map(parameter -> types.erasure(parameter.asType()).toString())
+                                                                         .collect(joining(",", "(", ")"));
+                final ExecutableElement previous = methods.get(signature);
+                if ((null == previous) || (previous.getModifiers().contains(Modifier.ABSTRACT)
+                    && !method.getModifiers().contains(Modifier.ABSTRACT))) {
+                    methods.put(signature, method);
+                }
+            }
+        }
+
+        // ... build the class declaration, ...
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Facade of {@link ").append(type.getQualifiedName())
+              .append("}, generated by {@link ").append(getClass().getName()).append("}.\n */\n")
+              .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append("public class ").append(facadeName).append(typeParametersOf(type.getTypeParameters(), true))
+              .append(" extends ").append(delegateType)
+              .append(" implements pl.ais.commons.bean.facade.GeneratedFacade {\n");
+
+        // ... resolve the accessors (once per class), ...
+        final Map<ExecutableElement, String> constants = new LinkedHashMap<>();
+        for (final ExecutableElement method : methods.values()) {
+            if (isAccessor(method)) {
+                constants.put(method, "METHOD_" + constants.size());
+            }
+        }
+        source.append("\n    private static final Object[] NO_ARGUMENTS = new Object[0];\n");
+        for (final String constant : constants.values()) {
+            source.append("\n    private static final java.lang.reflect.Method ").append(constant).append(";\n");
+        }
+        if (!constants.isEmpty()) {
+            source.append("\n    static {\n        try {\n");
+            for (final Map.Entry<ExecutableElement, String> entry : constants.entrySet()) {
+                final ExecutableElement method = entry.getKey();
+                source.append("            ").append(entry.getValue()).append(" = ").append(types.erasure(type.asType()))
+                      .append(".class.getMethod(\"").append(method.getSimpleName()).append('"');
+                for (final Element parameter : method.getParameters()) {
+                    source.append(", ").append(types.erasure(parameter.asType())).append(".class");
+                }
+                source.append(");\n");
+            }
+            source.append("        } catch (final NoSuchMethodException exception) {\n")
+                  .append("            throw new ExceptionInInitializerError(exception);\n")
+                  .append("        }\n    }\n");
+        }
+
+        // ... declare the callback, ...
+        source.append("\n    private pl.ais.commons.bean.facade.FacadeCallback facade$callback;\n")
+              .append("\n    @Override\n    public pl.ais.commons.bean.facade.FacadeCallback getFacadeCallback() {\n")
+              .append("        return facade$callback;\n    }\n")
+              .append("\n    @Override\n    public void setFacadeCallback(final pl.ais.commons.bean.facade.FacadeCallback callback) {\n")
+              .append("        this.facade$callback = callback;\n    }\n");
+
+        // ... and override the methods.
+        for (final ExecutableElement method : methods.values()) {
+            final ExecutableType methodType = (ExecutableType) types.asMemberOf((DeclaredType) type.asType(), method);
+            appendMethod(source, delegateType, method, methodType, constants.get(method));
+        }
+        return source.append("\n}\n").toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (verify(element)) {
+                    final TypeElement type = (TypeElement) element;
+                    final Elements elements = processingEnv.getElementUtils();
+                    final String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+                    final String binaryName = elements.getBinaryName(type).toString();
+                    final String facadeName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                                                        .replace('$', '_') + SUFFIX;
+                    final String qualifiedName = (packageName.isEmpty() ? "" : packageName + '.') + facadeName;
+                    try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+                        writer.write(generateSource(type, packageName, facadeName));
+                    } catch (final IOException exception) {
+                        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Generating facade failed: " + exception.getMessage(), type);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean verify(final Element element) {
+        final Messager messager = processingEnv.getMessager();
+        boolean result = true;
+        if (ElementKind.CLASS != element.getKind()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Only classes can be annotated with @Facaded.", element);
+            result = false;
+        } else {
+            final Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Class annotated with @Facaded should be non-final, non-abstract and non-private.", element);
+                result = false;
+            }
+            if ((NestingKind.TOP_LEVEL != ((TypeElement) element).getNestingKind()) && !modifiers.contains(Modifier.STATIC)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Nested class annotated with @Facaded should be static.", element);
+                result = false;
+            }
+            final boolean constructible = ElementFilter.constructorsIn(element.getEnclosedElements())
+                                                       .stream()
+                                                       .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                                                           && constructor.getThrownTypes().isEmpty()
+                                                           && !constructor.getModifiers().contains(Modifier.PRIVATE));
+            if (!constructible) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Class annotated with @Facaded should have non-private parameterless constructor.", element);
+                result = false;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,20 @@
+package pl.ais.commons.bean.validation;
+
+import java.io.Serializable;
+import java.util.function.Function;
+
+/**
+ * Property accessor, being a method reference to the accessor method (for example {@code Person::getName}).
+ *
+ * <p>Accessor is serializable, which allows determining the name of the property it provides access to.
+ *
+ * @param <T> type of the objects holding the property
+ * @param <V> type of the property values
+ * @author Warlock, AIS.PL
+ * @see Property
+ * @since 1.4.3
+ */
+@FunctionalInterface
+public interface Accessor<T, V> extends Function<T, V>, Serializable {
+
+}
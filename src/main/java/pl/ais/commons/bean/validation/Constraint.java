@@ -36,13 +36,28 @@ public interface Constraint<T> extends BiFunction<Constrainable<? extends T>, Va
     @Override
     @Nonnull
     default Boolean apply(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
-        final boolean matched = constrainable.apply(this);
+        final boolean matched = constrainable.check(this);
         if (!matched) {
             listener.constraintViolated(new ConstraintViolated(this, constrainable));
         }
         return matched;
     }
 
+    /**
+     * Verifies if given constrainable matches the constraint and reports violation if needed.
+     *
+     * <p>Delegates to {@link #apply(Constrainable, ValidationListener)} by default (so the constraints overriding it
+     * are verified the way they define), built-in composite constraints override it to avoid boxing the results.
+     *
+     * @param constrainable the constrainable to be checked
+     * @param listener      the validation listener observing constraint violations
+     * @return {@code true} if given constrainable matches the constraint, {@code false} otherwise
+     * @since 1.4.3
+     */
+    default boolean check(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+        return apply(constrainable, listener);
+    }
+
     /**
      * @return the message which should be used to describe this constraint
      */
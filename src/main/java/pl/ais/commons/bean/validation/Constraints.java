@@ -2,12 +2,22 @@ package pl.ais.commons.bean.validation;
 
 import pl.ais.commons.bean.validation.constraint.AllOfConstraint;
 import pl.ais.commons.bean.validation.constraint.AnyOfConstraint;
+import pl.ais.commons.bean.validation.constraint.Bound;
+import pl.ais.commons.bean.validation.constraint.CompiledConstraint;
+import pl.ais.commons.bean.validation.constraint.DoubleBoundConstraint;
+import pl.ais.commons.bean.validation.constraint.IntBoundConstraint;
+import pl.ais.commons.bean.validation.constraint.LongBoundConstraint;
 import pl.ais.commons.bean.validation.constraint.SimpleConstraint;
 import pl.ais.commons.domain.specification.Specifications;
 
 import javax.annotation.Nonnull;
 import java.util.function.Predicate;
 
+import static pl.ais.commons.bean.validation.constraint.Bound.Kind.GREATER_THAN;
+import static pl.ais.commons.bean.validation.constraint.Bound.Kind.GREATER_THAN_OR_EQUAL_TO;
+import static pl.ais.commons.bean.validation.constraint.Bound.Kind.LESS_THAN;
+import static pl.ais.commons.bean.validation.constraint.Bound.Kind.LESS_THAN_OR_EQUAL_TO;
+
 /**
  * Provides set of useful {@link Constraint} implementations.
  *
@@ -29,7 +39,7 @@ public final class Constraints {
      * @return constraint verifying if constrainable value is after predefined boundary
      */
     public static <T extends Comparable<? super T>> Constraint<T> after(final T boundary) {
-        return new SimpleConstraint<>("after", Specifications.after(boundary));
+        return new SimpleConstraint<>("after", Bound.of(GREATER_THAN, boundary));
     }
 
     /**
@@ -60,7 +70,21 @@ public final class Constraints {
      * @return constraint verifying if constrainable value is before predefined bound
      */
     public static <T extends Comparable<? super T>> Constraint<T> before(final T boundary) {
-        return new SimpleConstraint<>("before", Specifications.before(boundary));
+        return new SimpleConstraint<>("before", Bound.of(LESS_THAN, boundary));
+    }
+
+    /**
+     * Compiles given constraint (usually the tree of conjunctions, disjunctions and negations) into the flat
+     * evaluation program, with inactive constraints removed, and negations pushed down to the simple constraints.
+     *
+     * <p>Compiled constraint is immutable, and should be created once and reused (also by multiple threads).
+     *
+     * @param <T>        type of the values to be constrained
+     * @param constraint the constraint to be compiled
+     * @return compiled constraint, equivalent to given one
+     */
+    public static <T> Constraint<T> compile(@Nonnull final Constraint<T> constraint) {
+        return CompiledConstraint.compile(constraint);
     }
 
     /**
@@ -96,7 +120,31 @@ public final class Constraints {
      * @return constraint verifying if constrainable value is greater than given boundary
      */
     public static <T extends Comparable<? super T>> Constraint<T> greaterThan(final T boundary) {
-        return new SimpleConstraint<>("greaterThan", Specifications.after(boundary));
+        return new SimpleConstraint<>("greaterThan", Bound.of(GREATER_THAN, boundary));
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable int value is greater than given boundary (without boxing it)
+     */
+    public static IntConstraint greaterThanInt(final int boundary) {
+        return new IntBoundConstraint("greaterThan", GREATER_THAN, boundary);
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable long value is greater than given boundary (without boxing it)
+     */
+    public static LongConstraint greaterThanLong(final long boundary) {
+        return new LongBoundConstraint("greaterThan", GREATER_THAN, boundary);
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable double value is greater than given boundary (without boxing it)
+     */
+    public static DoubleConstraint greaterThanDouble(final double boundary) {
+        return new DoubleBoundConstraint("greaterThan", GREATER_THAN, boundary);
     }
 
     /**
@@ -105,7 +153,31 @@ public final class Constraints {
      * @return constraint verifying if constrainable value is greater than or equal to the given boundary
      */
     public static <T extends Comparable<? super T>> Constraint<T> greaterThanOrEqualTo(final T boundary) {
-        return new SimpleConstraint<>("greaterThanOrEqualTo", Specifications.before(boundary).negate());
+        return new SimpleConstraint<>("greaterThanOrEqualTo", Bound.of(GREATER_THAN_OR_EQUAL_TO, boundary));
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable int value is greater than or equal to the given boundary (without boxing it)
+     */
+    public static IntConstraint greaterThanOrEqualToInt(final int boundary) {
+        return new IntBoundConstraint("greaterThanOrEqualTo", GREATER_THAN_OR_EQUAL_TO, boundary);
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable long value is greater than or equal to the given boundary (without boxing it)
+     */
+    public static LongConstraint greaterThanOrEqualToLong(final long boundary) {
+        return new LongBoundConstraint("greaterThanOrEqualTo", GREATER_THAN_OR_EQUAL_TO, boundary);
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable double value is greater than or equal to the given boundary (without boxing it)
+     */
+    public static DoubleConstraint greaterThanOrEqualToDouble(final double boundary) {
+        return new DoubleBoundConstraint("greaterThanOrEqualTo", GREATER_THAN_OR_EQUAL_TO, boundary);
     }
 
     /**
@@ -123,7 +195,31 @@ public final class Constraints {
      * @return constraint verifying if constrainable value is less than given boundary
      */
     public static <T extends Comparable<? super T>> Constraint<T> lessThan(final T boundary) {
-        return new SimpleConstraint<>("lessThan", Specifications.before(boundary));
+        return new SimpleConstraint<>("lessThan", Bound.of(LESS_THAN, boundary));
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable int value is less than given boundary (without boxing it)
+     */
+    public static IntConstraint lessThanInt(final int boundary) {
+        return new IntBoundConstraint("lessThan", LESS_THAN, boundary);
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable long value is less than given boundary (without boxing it)
+     */
+    public static LongConstraint lessThanLong(final long boundary) {
+        return new LongBoundConstraint("lessThan", LESS_THAN, boundary);
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable double value is less than given boundary (without boxing it)
+     */
+    public static DoubleConstraint lessThanDouble(final double boundary) {
+        return new DoubleBoundConstraint("lessThan", LESS_THAN, boundary);
     }
 
     /**
@@ -132,7 +228,31 @@ public final class Constraints {
      * @return constraint verifying if constrainable value is less than or equal to the given boundary
      */
     public static <T extends Comparable<? super T>> Constraint<T> lessThanOrEqualTo(final T boundary) {
-        return new SimpleConstraint<>("lessThanOrEqualTo", Specifications.after(boundary).negate());
+        return new SimpleConstraint<>("lessThanOrEqualTo", Bound.of(LESS_THAN_OR_EQUAL_TO, boundary));
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable int value is less than or equal to the given boundary (without boxing it)
+     */
+    public static IntConstraint lessThanOrEqualToInt(final int boundary) {
+        return new IntBoundConstraint("lessThanOrEqualTo", LESS_THAN_OR_EQUAL_TO, boundary);
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable long value is less than or equal to the given boundary (without boxing it)
+     */
+    public static LongConstraint lessThanOrEqualToLong(final long boundary) {
+        return new LongBoundConstraint("lessThanOrEqualTo", LESS_THAN_OR_EQUAL_TO, boundary);
+    }
+
+    /**
+     * @param boundary the boundary
+     * @return constraint verifying if constrainable double value is less than or equal to the given boundary (without boxing it)
+     */
+    public static DoubleConstraint lessThanOrEqualToDouble(final double boundary) {
+        return new DoubleBoundConstraint("lessThanOrEqualTo", LESS_THAN_OR_EQUAL_TO, boundary);
     }
 
     /**
@@ -167,6 +287,22 @@ public final class Constraints {
         return REQUIRED;
     }
 
+    /**
+     * Compiles given constraint, and generates the validator class evaluating it (see
+     * {@link CompiledConstraint#specialize()}), allowing the JIT compiler to inline the whole constraint.
+     *
+     * <p>Validator class is generated on each call, so specialized constraint should be created once, and reused
+     * (also by multiple threads), it pays off for the constraints evaluated very often.
+     *
+     * @param <T>        type of the values to be constrained
+     * @param constraint the constraint to be specialized
+     * @return specialized constraint, equivalent to given one
+     */
+    public static <T> Constraint<T> specialize(@Nonnull final Constraint<T> constraint) {
+        return CompiledConstraint.compile(constraint)
+                                 .specialize();
+    }
+
     /**
      * @return constraint verifying if string contains valid email address.
      */
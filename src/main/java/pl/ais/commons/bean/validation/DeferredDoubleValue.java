@@ -0,0 +1,73 @@
+package pl.ais.commons.bean.validation;
+
+import pl.ais.commons.bean.facade.PropertyPath;
+import pl.ais.commons.bean.facade.TraverseListener;
+import pl.ais.commons.bean.validation.event.ConstraintViolated;
+import pl.ais.commons.bean.validation.event.ValidationListener;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Deferred {@code double} value, verified against the {@link DoubleConstraint double constraints} without boxing it.
+ *
+ * <p>Value is boxed only when verified against other constraints, or when the constraint is violated.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@NotThreadSafe
+final class DeferredDoubleValue extends DeferredValue<Double> implements DoubleValidatable {
+
+    private double primitive;
+
+    /**
+     * Constructs new instance.
+     *
+     * @param basePath         the path to the validated object
+     * @param listener         the validation listener observing constraint violations
+     * @param traverseListener the traverse listener tracking down the path to the value
+     * @param reused           indicates if this instance is reused by the validation context
+     */
+    DeferredDoubleValue(@Nonnull final PropertyPath basePath, @Nonnull final ValidationListener listener,
+                  @Nonnull final TraverseListener traverseListener, final boolean reused) {
+        super(basePath, listener, traverseListener, reused);
+    }
+
+    /**
+     * Binds given value, accessed through the validation subject, to this instance.
+     *
+     * @param value the value accessed through the validation subject
+     * @return this instance
+     */
+    DeferredDoubleValue bindDouble(final double value) {
+        bindRecorded(null);
+        primitive = value;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean satisfies(@Nonnull final DoubleConstraint constraint) {
+        try {
+            final boolean result = constraint.testDouble(primitive);
+            if (!result) {
+                constraintViolated(new ConstraintViolated(constraint, this));
+            }
+            return result;
+        } finally {
+            markVerified();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Double value() {
+        return primitive;
+    }
+
+}
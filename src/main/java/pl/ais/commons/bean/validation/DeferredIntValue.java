@@ -0,0 +1,73 @@
+package pl.ais.commons.bean.validation;
+
+import pl.ais.commons.bean.facade.PropertyPath;
+import pl.ais.commons.bean.facade.TraverseListener;
+import pl.ais.commons.bean.validation.event.ConstraintViolated;
+import pl.ais.commons.bean.validation.event.ValidationListener;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Deferred {@code int} value, verified against the {@link IntConstraint int constraints} without boxing it.
+ *
+ * <p>Value is boxed only when verified against other constraints, or when the constraint is violated.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@NotThreadSafe
+final class DeferredIntValue extends DeferredValue<Integer> implements IntValidatable {
+
+    private int primitive;
+
+    /**
+     * Constructs new instance.
+     *
+     * @param basePath         the path to the validated object
+     * @param listener         the validation listener observing constraint violations
+     * @param traverseListener the traverse listener tracking down the path to the value
+     * @param reused           indicates if this instance is reused by the validation context
+     */
+    DeferredIntValue(@Nonnull final PropertyPath basePath, @Nonnull final ValidationListener listener,
+                  @Nonnull final TraverseListener traverseListener, final boolean reused) {
+        super(basePath, listener, traverseListener, reused);
+    }
+
+    /**
+     * Binds given value, accessed through the validation subject, to this instance.
+     *
+     * @param value the value accessed through the validation subject
+     * @return this instance
+     */
+    DeferredIntValue bindInt(final int value) {
+        bindRecorded(null);
+        primitive = value;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean satisfies(@Nonnull final IntConstraint constraint) {
+        try {
+            final boolean result = constraint.testInt(primitive);
+            if (!result) {
+                constraintViolated(new ConstraintViolated(constraint, this));
+            }
+            return result;
+        } finally {
+            markVerified();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Integer value() {
+        return primitive;
+    }
+
+}
@@ -0,0 +1,260 @@
+package pl.ais.commons.bean.validation;
+
+import pl.ais.commons.bean.facade.PropertyPath;
+import pl.ais.commons.bean.facade.RecordedPath;
+import pl.ais.commons.bean.facade.TraverseListener;
+import pl.ais.commons.bean.validation.constrainable.Constrainable;
+import pl.ais.commons.bean.validation.constrainable.ConstrainableValue;
+import pl.ais.commons.bean.validation.constrainable.ConstrainableVisitor;
+import pl.ais.commons.bean.validation.event.ConstraintViolated;
+import pl.ais.commons.bean.validation.event.ValidationListener;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Validatable value of the validation context, deferring determining the path to the value until the constraint
+ * violation is reported (or the constrainable value is requested).
+ *
+ * <p>Path to the value accessed through the validation subject is detached from the traverse listener, and released
+ * once the constraints have been verified against the value (or the constrainable value has been requested). Value
+ * which is not {@link ValidationContext#reusingValues() reused} by the validation context determines the path before
+ * releasing it, so it remains fully usable. Value reused by the validation context (rebound to another value once
+ * the constraints have been verified) doesn't allocate any memory while verifying them (unless the constraint is
+ * violated), but the constrainable value can be requested then only before verifying the constraints, or if some of
+ * them has been violated. Path recorded by the {@link TraverseListener#isThreadConfined() thread-confined} traverse
+ * listener is copied instead of being detached, because the value may be verified by another thread.
+ *
+ * <p>Subclasses may hold the primitive values, boxing them only when {@link #value() requested}.
+ *
+ * @param <V> the type of the value
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@NotThreadSafe
+class DeferredValue<V> implements Constrainable<V>, Validatable<V>, ValidationListener {
+
+    private final PropertyPath basePath;
+
+    private final ValidationListener listener;
+
+    private final RecordedPath recordedPath = new RecordedPath();
+
+    /**
+     * Indicates if this instance is reused by the validation context.
+     */
+    private final boolean reused;
+
+    private final TraverseListener traverseListener;
+
+    private ConstrainableValue<V> constrainable;
+
+    private String propertyName;
+
+    private PropertyPath relativePath;
+
+    /**
+     * Path copied from the thread-confined traverse listener.
+     */
+    private PropertyPath copiedPath;
+
+    private V value;
+
+    private boolean verified = true;
+
+    /**
+     * Constructs new instance.
+     *
+     * @param basePath         the path to the validated object
+     * @param listener         the validation listener observing constraint violations
+     * @param traverseListener the traverse listener tracking down the path to the value
+     * @param reused           indicates if this instance is reused by the validation context
+     */
+    DeferredValue(@Nonnull final PropertyPath basePath, @Nonnull final ValidationListener listener,
+                  @Nonnull final TraverseListener traverseListener, final boolean reused) {
+        this.basePath = basePath;
+        this.listener = listener;
+        this.traverseListener = traverseListener;
+        this.reused = reused;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> R accept(@Nonnull final ConstrainableVisitor<R> visitor) {
+        return get().accept(visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Boolean apply(final Constraint<? super V> constraint) {
+        return check(constraint);
+    }
+
+    /**
+     * Binds given value of the property having given name to this instance.
+     *
+     * @param name  the property name
+     * @param value the property value
+     * @return this instance
+     */
+    DeferredValue<V> bindProperty(@Nonnull final String name, final V value) {
+        unbind();
+        propertyName = name;
+        return bind(value);
+    }
+
+    /**
+     * Binds given value, accessed through the validation subject, to this instance.
+     *
+     * @param value the value accessed through the validation subject
+     * @return this instance
+     */
+    DeferredValue<V> bindRecorded(final V value) {
+        unbind();
+        if (traverseListener.isThreadConfined()) {
+            copiedPath = traverseListener.asPropertyPath();
+        } else {
+            traverseListener.detach(recordedPath);
+        }
+        return bind(value);
+    }
+
+    /**
+     * Binds given value of the property at given path to this instance.
+     *
+     * @param path  the path to the property (relative to the validated object)
+     * @param value the property value
+     * @return this instance
+     */
+    DeferredValue<V> bindRelative(@Nonnull final PropertyPath path, final V value) {
+        unbind();
+        relativePath = path;
+        return bind(value);
+    }
+
+    private DeferredValue<V> bind(final V value) {
+        this.value = value;
+        verified = false;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean check(final Constraint<? super V> constraint) {
+        return constraint.test(value());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void constraintViolated(@Nonnull final ConstraintViolated event) {
+        final Constrainable<?> offender = event.getOffender();
+        listener.constraintViolated((this == offender) ? new ConstraintViolated(event.getSource(), get()) : event);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the path to the value reused by the validation context has been released
+     *                               already (constraints have been verified against it, and none of them has been
+     *                               violated)
+     */
+    @Override
+    public Constrainable<V> get() {
+        if (null == constrainable) {
+            final PropertyPath path;
+            if (null != propertyName) {
+                path = basePath.property(propertyName);
+            } else if (null != relativePath) {
+                path = basePath.resolve(relativePath);
+            } else if (null != copiedPath) {
+                path = copiedPath;
+            } else if (recordedPath.isDetached()) {
+                path = traverseListener.pathOf(recordedPath);
+                traverseListener.release(recordedPath);
+            } else {
+                throw new IllegalStateException("Path to the value has been released after verifying the constraints.");
+            }
+            constrainable = new ConstrainableValue<>(path, value());
+        }
+        return constrainable;
+    }
+
+    /**
+     * @return {@code true} if the constraints have been verified against the value bound to this instance (so it can
+     * be rebound to another value), {@code false} otherwise
+     */
+    boolean isVerified() {
+        return verified;
+    }
+
+    /**
+     * Marks the value bound to this instance as verified (so it can be rebound to another value), releasing the path
+     * to the value (determining it before, unless this instance is reused by the validation context).
+     */
+    final void markVerified() {
+        if (!verified) {
+            verified = true;
+            if (reused) {
+                traverseListener.release(recordedPath);
+            } else if (recordedPath.isDetached()) {
+                get();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean satisfies(@Nonnull final Constraint<? super V> constraint) {
+        try {
+            return constraint.check(this, this);
+        } finally {
+            markVerified();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("PMD.UseVarargs")
+    public final boolean satisfies(@Nonnull final Constraint<? super V> first, final Constraint<? super V>... rest) {
+        try {
+            boolean result = first.check(this, this);
+            for (int index = 0; result && (index < rest.length); index++) {
+                result = rest[index].check(this, this);
+            }
+            return result;
+        } finally {
+            markVerified();
+        }
+    }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    private void unbind() {
+        traverseListener.release(recordedPath);
+        constrainable = null;
+        propertyName = null;
+        relativePath = null;
+        copiedPath = null;
+        value = null;
+    }
+
+    /**
+     * @return the value bound to this instance
+     */
+    V value() {
+        return value;
+    }
+
+}
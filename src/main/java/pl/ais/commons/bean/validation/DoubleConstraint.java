@@ -0,0 +1,53 @@
+package pl.ais.commons.bean.validation;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Constraint verifying the {@code double} values without boxing them.
+ *
+ * <p>Boxed values are verified the same way as by the equivalent constraint of {@link Double} values.
+ *
+ * @author Warlock, AIS.PL
+ * @see ValidationContext#valueOfDouble(double)
+ * @since 1.4.3
+ */
+public interface DoubleConstraint extends Constraint<Double> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DoubleConstraint negate();
+
+    /**
+     * Evaluates this constraint on the given argument.
+     *
+     * <p><strong>Note:</strong> disabled constraints are matched by any candidates.</p>
+     *
+     * @param candidate value to be matched against this constraint
+     * @return {@code true} if given argument matches this constraint, {@code false} otherwise
+     */
+    boolean testDouble(double candidate);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    DoubleConstraint when(boolean active);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    DoubleConstraint withDescription(@Nonnull String message, Object... messageParameters);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    DoubleConstraint withMessageParameters(Object... messageParameters);
+
+}
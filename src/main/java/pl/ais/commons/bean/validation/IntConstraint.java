@@ -0,0 +1,53 @@
+package pl.ais.commons.bean.validation;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Constraint verifying the {@code int} values without boxing them.
+ *
+ * <p>Boxed values are verified the same way as by the equivalent constraint of {@link Integer} values.
+ *
+ * @author Warlock, AIS.PL
+ * @see ValidationContext#valueOfInt(int)
+ * @since 1.4.3
+ */
+public interface IntConstraint extends Constraint<Integer> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    IntConstraint negate();
+
+    /**
+     * Evaluates this constraint on the given argument.
+     *
+     * <p><strong>Note:</strong> disabled constraints are matched by any candidates.</p>
+     *
+     * @param candidate value to be matched against this constraint
+     * @return {@code true} if given argument matches this constraint, {@code false} otherwise
+     */
+    boolean testInt(int candidate);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    IntConstraint when(boolean active);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    IntConstraint withDescription(@Nonnull String message, Object... messageParameters);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    IntConstraint withMessageParameters(Object... messageParameters);
+
+}
@@ -0,0 +1,23 @@
+package pl.ais.commons.bean.validation;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Validatable {@code int} value, verified against the {@link IntConstraint int constraints} without boxing it.
+ *
+ * @author Warlock, AIS.PL
+ * @see ValidationContext#valueOfInt(int)
+ * @since 1.4.3
+ */
+public interface IntValidatable extends Validatable<Integer> {
+
+    /**
+     * Verifies if this validatable satisfies given constraint, without boxing the value (unless the constraint is
+     * violated).
+     *
+     * @param constraint constraint which should be satisfied
+     * @return {@code true} if given constraint is satisfied by this validatable, {@code false} otherwise
+     */
+    boolean satisfies(@Nonnull IntConstraint constraint);
+
+}
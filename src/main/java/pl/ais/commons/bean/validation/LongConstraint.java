@@ -0,0 +1,53 @@
+package pl.ais.commons.bean.validation;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Constraint verifying the {@code long} values without boxing them.
+ *
+ * <p>Boxed values are verified the same way as by the equivalent constraint of {@link Long} values.
+ *
+ * @author Warlock, AIS.PL
+ * @see ValidationContext#valueOfLong(long)
+ * @since 1.4.3
+ */
+public interface LongConstraint extends Constraint<Long> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    LongConstraint negate();
+
+    /**
+     * Evaluates this constraint on the given argument.
+     *
+     * <p><strong>Note:</strong> disabled constraints are matched by any candidates.</p>
+     *
+     * @param candidate value to be matched against this constraint
+     * @return {@code true} if given argument matches this constraint, {@code false} otherwise
+     */
+    boolean testLong(long candidate);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    LongConstraint when(boolean active);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    LongConstraint withDescription(@Nonnull String message, Object... messageParameters);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    LongConstraint withMessageParameters(Object... messageParameters);
+
+}
@@ -0,0 +1,23 @@
+package pl.ais.commons.bean.validation;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Validatable {@code long} value, verified against the {@link LongConstraint long constraints} without boxing it.
+ *
+ * @author Warlock, AIS.PL
+ * @see ValidationContext#valueOfLong(long)
+ * @since 1.4.3
+ */
+public interface LongValidatable extends Validatable<Long> {
+
+    /**
+     * Verifies if this validatable satisfies given constraint, without boxing the value (unless the constraint is
+     * violated).
+     *
+     * @param constraint constraint which should be satisfied
+     * @return {@code true} if given constraint is satisfied by this validatable, {@code false} otherwise
+     */
+    boolean satisfies(@Nonnull LongConstraint constraint);
+
+}
@@ -0,0 +1,162 @@
+package pl.ais.commons.bean.validation;
+
+import pl.ais.commons.bean.facade.PropertyPath;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Property (potentially nested) of some object, defined by the chain of {@link Accessor accessors}.
+ *
+ * <p>Path to the property is determined once per accessor (method reference), and the property value is read
+ * directly from the object, without building any facades over it. Properties are immutable, and can be defined once
+ * (as constants), for example:
+ * <pre>
+ *     private static final Property&lt;Person, String&gt; CITY = path(Person::getAddress).then(Address::getCity);
+ * </pre>
+ *
+ * @param <T> type of the objects holding the property
+ * @param <V> type of the property values
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+public final class Property<T, V> {
+
+    /**
+     * Names of the properties provided by the accessors, keyed by the accessor (lambda) class.
+     */
+    private static final ClassValue<String[]> PROPERTY_NAMES = new ClassValue<String[]>() {
+
+        @Override
+        protected String[] computeValue(final Class<?> type) {
+            return new String[1];
+        }
+
+    };
+
+    private final PropertyPath path;
+
+    private final Function<? super T, ? extends V> reader;
+
+    private Property(@Nonnull final PropertyPath path, @Nonnull final Function<? super T, ? extends V> reader) {
+        this.path = path;
+        this.reader = reader;
+    }
+
+    private static String determinePropertyName(final Accessor<?, ?> accessor) {
+        final SerializedLambda lambda = serializedFormOf(accessor);
+        final String methodName = lambda.getImplMethodName();
+        final int prefixLength;
+        if ((3 < methodName.length()) && methodName.startsWith("get")) {
+            prefixLength = 3;
+        } else if ((2 < methodName.length()) && methodName.startsWith("is")) {
+            prefixLength = 2;
+        } else {
+            throw new IllegalArgumentException("Method reference to " + lambda.getImplClass() + "." + methodName + " is not an accessor.");
+        }
+        return Character.toLowerCase(methodName.charAt(prefixLength)) + methodName.substring(prefixLength + 1);
+    }
+
+    /**
+     * Creates and returns the property provided by given accessor.
+     *
+     * @param accessor the property accessor (method reference to the accessor method)
+     * @param <T>      type of the objects holding the property
+     * @param <V>      type of the property values
+     * @return the property provided by given accessor
+     * @throws IllegalArgumentException if given accessor is not a method reference to the accessor method
+     */
+    public static <T, V> Property<T, V> path(@Nonnull final Accessor<T, V> accessor) {
+        Objects.requireNonNull(accessor, "Accessor is required.");
+        return new Property<>(PropertyPath.root().property(propertyNameOf(accessor)), accessor);
+    }
+
+    /**
+     * Provides the name of the property provided by given accessor.
+     *
+     * @param accessor the property accessor (method reference to the accessor method)
+     * @return the name of the property provided by given accessor
+     * @throws IllegalArgumentException if given accessor is not a method reference to the accessor method
+     */
+    static String propertyNameOf(@Nonnull final Accessor<?, ?> accessor) {
+        final String[] holder = PROPERTY_NAMES.get(accessor.getClass());
+        if (null == holder[0]) {
+            holder[0] = determinePropertyName(accessor);
+        }
+        return holder[0];
+    }
+
+    private static SerializedLambda serializedFormOf(final Accessor<?, ?> accessor) {
+        final Class<?> accessorClass = accessor.getClass();
+        try {
+            // Obtain the serialized form of the accessor (lambda) instance.
+            final Method writeReplace = accessorClass.getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            final Object replacement = writeReplace.invoke(accessor);
+            if (!(replacement instanceof SerializedLambda)) {
+                throw new IllegalArgumentException(accessorClass + " is not a method reference.");
+            }
+            return (SerializedLambda) replacement;
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
+            throw new IllegalArgumentException(accessorClass + " is not a method reference.", exception);
+        }
+    }
+
+    /**
+     * @return path to the property (in Spring bean property path format)
+     */
+    public String getPath() {
+        return path.toString();
+    }
+
+    /**
+     * @return path to the property
+     */
+    public PropertyPath getPropertyPath() {
+        return path;
+    }
+
+    /**
+     * Creates and returns the property nested within this one, provided by given accessor.
+     *
+     * @param accessor the nested property accessor (method reference to the accessor method)
+     * @param <W>      type of the nested property values
+     * @return the property nested within this one
+     * @throws IllegalArgumentException if given accessor is not a method reference to the accessor method
+     */
+    public <W> Property<T, W> then(@Nonnull final Accessor<? super V, W> accessor) {
+        Objects.requireNonNull(accessor, "Accessor is required.");
+        final Function<? super T, ? extends V> outer = reader;
+        return new Property<>(path.property(propertyNameOf(accessor)), object -> {
+            final V value = outer.apply(object);
+            return (null == value) ? null : accessor.apply(value);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Property '" + path + "'";
+    }
+
+    /**
+     * Reads the value of this property from given object.
+     *
+     * @param object the object holding the property
+     * @return the value of this property, or {@code null} if it (or any property on the path to it) is undefined
+     */
+    @Nullable
+    public V valueOf(@Nullable final T object) {
+        return (null == object) ? null : reader.apply(object);
+    }
+
+}
@@ -5,7 +5,6 @@ import pl.ais.commons.bean.validation.event.ValidationListener;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Arrays;
 import java.util.function.Supplier;
 
 /**
@@ -30,14 +29,31 @@ public interface Validatable<T> extends Supplier<Constrainable<T>> {
                 return constrainable;
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean satisfies(@Nonnull final Constraint<? super V> constraint) {
+                try {
+                    return constraint.check(constrainable, listener);
+                } finally {
+                    if (null != callback) {
+                        callback.run();
+                    }
+                }
+            }
+
             /**
              * {@inheritDoc}
              */
             @Override
             public boolean satisfies(@Nonnull final Constraint<? super V> first, final Constraint<? super V>... rest) {
                 try {
-                    return first.apply(constrainable, listener) && Arrays.stream(rest)
-                                                                         .allMatch(constraint -> constraint.apply(constrainable, listener));
+                    boolean result = first.check(constrainable, listener);
+                    for (int index = 0; result && (index < rest.length); index++) {
+                        result = rest[index].check(constrainable, listener);
+                    }
+                    return result;
                 } finally {
                     if (null != callback) {
                         callback.run();
@@ -47,6 +63,17 @@ public interface Validatable<T> extends Supplier<Constrainable<T>> {
         };
     }
 
+    /**
+     * Verifies if this validatable satisfies given constraint.
+     *
+     * @param constraint constraint which should be satisfied
+     * @return {@code true} if given constraint is satisfied by this validatable, {@code false} otherwise
+     */
+    @SuppressWarnings("unchecked")
+    default boolean satisfies(@Nonnull final Constraint<? super T> constraint) {
+        return satisfies(constraint, (Constraint<? super T>[]) new Constraint<?>[0]);
+    }
+
     /**
      * Verifies if this validatable satisfies given constraints.
      *
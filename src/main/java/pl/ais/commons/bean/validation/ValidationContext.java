@@ -1,10 +1,12 @@
 package pl.ais.commons.bean.validation;
 
 import pl.ais.commons.bean.facade.Facade;
+import pl.ais.commons.bean.facade.FacadeOption;
+import pl.ais.commons.bean.facade.FacadePool;
+import pl.ais.commons.bean.facade.PropertyPath;
 import pl.ais.commons.bean.facade.TraverseListener;
 import pl.ais.commons.bean.validation.constrainable.Constrainable;
 import pl.ais.commons.bean.validation.constrainable.ConstrainableGroup;
-import pl.ais.commons.bean.validation.constrainable.ConstrainableValue;
 import pl.ais.commons.bean.validation.event.ConstraintViolated;
 import pl.ais.commons.bean.validation.event.ValidationListener;
 
@@ -15,6 +17,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import static pl.ais.commons.bean.validation.Property.propertyNameOf;
 import static pl.ais.commons.bean.validation.Validatable.validatable;
 
 /**
@@ -27,7 +30,42 @@ import static pl.ais.commons.bean.validation.Validatable.validatable;
 @SuppressWarnings("PMD.TooManyMethods")
 public final class ValidationContext<T> implements AutoCloseable, ValidationListener {
 
-    private final T target;
+    private final PropertyPath basePath;
+
+    private final T object;
+
+    private final FacadeOption[] options;
+
+    /**
+     * Indicates if the context is shared by multiple threads (see {@link FacadeOption#SHARED}).
+     */
+    private final boolean shared;
+
+    /**
+     * Indicates if the validation subject is pooled (see {@link #poolingSubjects()}).
+     */
+    private boolean poolSubjects;
+
+    /**
+     * Indicates if the values are reused by subsequent {@code valueOf} calls (see {@link #reusingValues()}).
+     */
+    private boolean reuseValues;
+
+    /**
+     * Value reused by subsequent {@code valueOf} calls, once the constraints have been verified against it.
+     */
+    private DeferredValue<?> spareValue;
+
+    /**
+     * Primitive values reused by subsequent {@code valueOf} calls, once the constraints have been verified against them.
+     */
+    private DeferredDoubleValue spareDoubleValue;
+
+    private DeferredIntValue spareIntValue;
+
+    private DeferredLongValue spareLongValue;
+
+    private T target;
 
     private final TraverseListener traverseListener;
 
@@ -36,18 +74,25 @@ public final class ValidationContext<T> implements AutoCloseable, ValidationList
     /**
      * Constructs new instance.
      *
-     * @param object the object which will be validated
+     * @param object  the object which will be validated
+     * @param options options of the facade built over validated object
      */
-    private ValidationContext(final T object) {
-        this(object, null, null);
+    private ValidationContext(final T object, final FacadeOption[] options) {
+        this(object, PropertyPath.root(), null, options, false, false);
     }
 
-    private ValidationContext(final T object, final String basePath, final ValidationListener[] listeners) {
+    private ValidationContext(final T object, final PropertyPath basePath, final ValidationListener[] listeners,
+                              final FacadeOption[] options, final boolean poolSubjects, final boolean reuseValues) {
         super();
-        traverseListener = new TraverseListener(basePath);
+        shared = Arrays.asList(options).contains(FacadeOption.SHARED);
+        traverseListener = shared ? TraverseListener.threadConfined(basePath) : new TraverseListener(basePath);
 
+        this.basePath = basePath;
         this.listeners = (null == listeners) ? null : listeners.clone();
-        target = Facade.over(object, traverseListener);
+        this.object = object;
+        this.options = options.clone();
+        this.poolSubjects = poolSubjects;
+        this.reuseValues = reuseValues && !shared;
     }
 
     /**
@@ -58,7 +103,21 @@ public final class ValidationContext<T> implements AutoCloseable, ValidationList
      * @return newly created validation context
      */
     public static <B> ValidationContext<B> validationOf(final B object) {
-        return new ValidationContext<>(object);
+        return new ValidationContext<>(object, new FacadeOption[0]);
+    }
+
+    /**
+     * Creates and returns the validation context for given object, using given options for the facade built over it.
+     *
+     * @param <B>     type of the object to be validated
+     * @param object  the object which will be validated
+     * @param options options of the facade built over validated object
+     *                (use {@link FacadeOption#DELEGATE_ONLY} to avoid duplicating the state of validated objects,
+     *                or {@link FacadeOption#SHARED} to validate the object by multiple threads)
+     * @return newly created validation context
+     */
+    public static <B> ValidationContext<B> validationOf(final B object, final FacadeOption... options) {
+        return new ValidationContext<>(object, options);
     }
 
     /**
@@ -92,11 +151,19 @@ public final class ValidationContext<T> implements AutoCloseable, ValidationList
     }
 
     /**
+     * Releases the validation subject facade (if it has been obtained, and the subjects are
+     * {@link #poolingSubjects() pooled}), making it available for reuse by subsequent validations performed by current
+     * thread (see {@link FacadePool}). Does nothing otherwise.
+     *
      * @see AutoCloseable#close()
      */
     @Override
+    @SuppressWarnings("PMD.NullAssignment")
     public void close() {
-        // Do nothing ...
+        if (poolSubjects && (null != target)) {
+            FacadePool.release(target);
+            target = null;
+        }
     }
 
     /**
@@ -110,21 +177,32 @@ public final class ValidationContext<T> implements AutoCloseable, ValidationList
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <V> DeferredValue<V> deferredValue() {
+        if (!reuseValues) {
+            return new DeferredValue<>(basePath, this, traverseListener, false);
+        }
+        if ((null == spareValue) || !spareValue.isVerified()) {
+            spareValue = new DeferredValue<>(basePath, this, traverseListener, true);
+        }
+        return (DeferredValue<V>) spareValue;
+    }
+
     @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
     public <V> void forEach(final Collection<V> elements, final Consumer<ValidationContext<V>> delegate) {
-        final String basePath = traverseListener.asPath();
-        final Iterator<V> element = elements.iterator();
+        final PropertyPath basePath = traverseListener.asPropertyPath();
+        final Iterator<V> element = Facade.unwrap(elements).iterator();
         for (int i = 0; element.hasNext(); i++) {
-            try (final ValidationContext<V> validateThat = new ValidationContext<>(element.next(), String.format("%s[%d]", basePath, i), listeners)) {
+            try (final ValidationContext<V> validateThat = new ValidationContext<>(element.next(), basePath.element(i), listeners, options, poolSubjects, reuseValues)) {
                 delegate.accept(validateThat);
             }
         }
     }
 
     public <V> void forEach(final Map<?, V> map, final Consumer<ValidationContext<V>> delegate) {
-        final String basePath = traverseListener.asPath();
-        map.forEach((key, value) -> {
-            try (final ValidationContext<V> validateThat = new ValidationContext<>(value, String.format("%s['%s']", basePath, key), listeners)) {
+        final PropertyPath basePath = traverseListener.asPropertyPath();
+        Facade.unwrap(map).forEach((key, value) -> {
+            try (final ValidationContext<V> validateThat = new ValidationContext<>(value, basePath.element(String.valueOf(key)), listeners, options, poolSubjects, reuseValues)) {
                 delegate.accept(validateThat);
             }
         });
@@ -156,23 +234,161 @@ public final class ValidationContext<T> implements AutoCloseable, ValidationList
     }
 
     /**
-     * Returns the validation subject.
+     * Makes the validation subject of this context (and of the contexts of its elements) pooled, so that it's
+     * released once the context is closed, and reused by subsequent validations performed by current thread (see
+     * {@link FacadePool}).
+     *
+     * <p>Neither the validation subject, nor the values obtained from it should be used after closing the context
+     * then (the subject is detached from the validated object, and may be retargeted at another one). Closing the
+     * context more than once has no additional effect.
+     *
+     * @return this instance (for method invocation chaining)
+     */
+    public ValidationContext<T> poolingSubjects() {
+        poolSubjects = true;
+        return this;
+    }
+
+    /**
+     * Makes the values decorated by this context (and by the contexts of its elements) reused by subsequent
+     * {@code valueOf} calls, once the constraints have been verified against them, so that validating the values
+     * doesn't allocate any memory (unless some constraint is violated).
+     *
+     * <p>Reused value shouldn't be used after obtaining next value from the context. Path to the value is released
+     * once the constraints have been verified against it, so the {@link Validatable#get() constrainable value} can be
+     * requested only before verifying the constraints, or if some of them has been violated. Values are not reused by
+     * the context shared by multiple threads (see {@link FacadeOption#SHARED}).
+     *
+     * @return this instance (for method invocation chaining)
+     */
+    public ValidationContext<T> reusingValues() {
+        reuseValues = !shared;
+        return this;
+    }
+
+    /**
+     * Returns the validation subject (facade built over validated object, tracking down the accessed properties).
+     *
+     * <p>Context created with {@link FacadeOption#SHARED} option tracks down the accessed properties separately for
+     * each thread, the subject should be obtained before handing the validation over to other threads then.
      *
      * @return the validation subject
      */
     public T subject() {
+        if (null == target) {
+            target = poolSubjects ? FacadePool.acquire(object, traverseListener, options)
+                : Facade.over(object, traverseListener, options);
+        }
         return target;
     }
 
+    /**
+     * Decorates value of the validated object property, provided by given accessor, to allow its validation
+     * against some constraint.
+     *
+     * <p>Path to the property is determined from the accessor (method reference), and the value is read directly
+     * from the validated object, without accessing the validation subject.
+     *
+     * <p>Returned value is reused by the context once verified, if {@link #reusingValues() requested}.
+     *
+     * @param accessor the property accessor (method reference to the accessor method, for example {@code Person::getName})
+     * @return decorated property value
+     * @throws IllegalArgumentException if given accessor is not a method reference to the accessor method
+     */
+    public <V> Validatable<V> valueOfProperty(@Nonnull final Accessor<? super T, V> accessor) {
+        return this.<V>deferredValue().bindProperty(propertyNameOf(accessor), accessor.apply(object));
+    }
+
+    /**
+     * Decorates value of the validated object (nested) property to allow its validation against some constraint.
+     *
+     * <p>The value is read directly from the validated object, without accessing the validation subject.
+     *
+     * <p>Returned value is reused by the context once verified, if {@link #reusingValues() requested}.
+     *
+     * @param property the property
+     * @return decorated property value
+     * @see Property#path(Accessor)
+     */
+    public <V> Validatable<V> valueAt(@Nonnull final Property<? super T, V> property) {
+        return this.<V>deferredValue().bindRelative(property.getPropertyPath(), property.valueOf(object));
+    }
+
     /**
      * Decorates given value to allow its validation against some constraint.
      *
+     * <p>Path to the value (accessed through the validation subject) is determined only if some constraint is
+     * violated by the value. Returned value is reused by the context once verified, if
+     * {@link #reusingValues() requested}.
+     *
      * @param value the value which will be constrained
      * @return decorated value
      */
     public <V> Validatable<V> valueOf(final V value) {
-        final Constrainable<V> constrainable = new ConstrainableValue<>(traverseListener.asPath(), value);
-        return validatable(constrainable, this, traverseListener::reset);
+        return this.<V>deferredValue().bindRecorded(value);
+    }
+
+    /**
+     * Decorates given double value to allow its validation against some constraint, without boxing it (unless the
+     * constraint is violated, or it's not the {@link DoubleConstraint double constraint}).
+     *
+     * <p>Path to the value (accessed through the validation subject) is determined only if some constraint is
+     * violated by the value. Returned value is reused by the context once verified, if
+     * {@link #reusingValues() requested}.
+     *
+     * @param value the value which will be constrained
+     * @return decorated value
+     */
+    public DoubleValidatable valueOfDouble(final double value) {
+        if (!reuseValues) {
+            return new DeferredDoubleValue(basePath, this, traverseListener, false).bindDouble(value);
+        }
+        if ((null == spareDoubleValue) || !spareDoubleValue.isVerified()) {
+            spareDoubleValue = new DeferredDoubleValue(basePath, this, traverseListener, true);
+        }
+        return spareDoubleValue.bindDouble(value);
+    }
+
+    /**
+     * Decorates given int value to allow its validation against some constraint, without boxing it (unless the
+     * constraint is violated, or it's not the {@link IntConstraint int constraint}).
+     *
+     * <p>Path to the value (accessed through the validation subject) is determined only if some constraint is
+     * violated by the value. Returned value is reused by the context once verified, if
+     * {@link #reusingValues() requested}.
+     *
+     * @param value the value which will be constrained
+     * @return decorated value
+     */
+    public IntValidatable valueOfInt(final int value) {
+        if (!reuseValues) {
+            return new DeferredIntValue(basePath, this, traverseListener, false).bindInt(value);
+        }
+        if ((null == spareIntValue) || !spareIntValue.isVerified()) {
+            spareIntValue = new DeferredIntValue(basePath, this, traverseListener, true);
+        }
+        return spareIntValue.bindInt(value);
+    }
+
+    /**
+     * Decorates given long value to allow its validation against some constraint, without boxing it (unless the
+     * constraint is violated, or it's not the {@link LongConstraint long constraint}).
+     *
+     * <p>Path to the value (accessed through the validation subject) is determined only if some constraint is
+     * violated by the value. Returned value is reused by the context once verified, if
+     * {@link #reusingValues() requested}.
+     *
+     * @param value the value which will be constrained
+     * @return decorated value
+     */
+    public LongValidatable valueOfLong(final long value) {
+        if (!reuseValues) {
+            return new DeferredLongValue(basePath, this, traverseListener, false).bindLong(value);
+        }
+        if ((null == spareLongValue) || !spareLongValue.isVerified()) {
+            spareLongValue = new DeferredLongValue(basePath, this, traverseListener, true);
+        }
+        return spareLongValue.bindLong(value);
     }
 
 }
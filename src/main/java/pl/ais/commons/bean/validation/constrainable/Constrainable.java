@@ -36,4 +36,18 @@ public interface Constrainable<T> extends Function<Constraint<? super T>, Boolea
     @Override
     Boolean apply(Constraint<? super T> constraint);
 
+    /**
+     * Verifies if given constraint is satisfied by this constrainable.
+     *
+     * <p>Delegates to {@link #apply(Constraint)} by default, built-in constrainables override it to avoid boxing the
+     * result.
+     *
+     * @param constraint the constraint to be verified
+     * @return {@code true} if given constraint is satisfied by this constrainable, {@code false} otherwise
+     * @since 1.4.3
+     */
+    default boolean check(final Constraint<? super T> constraint) {
+        return apply(constraint);
+    }
+
 }
@@ -46,8 +46,20 @@ public abstract class ConstrainableGroup<T> implements Constrainable<T> {
              */
             @Override
             public Boolean apply(final Constraint<? super T> constraint) {
-                return elements.stream()
-                               .allMatch(constraint::test);
+                return check(constraint);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean check(final Constraint<? super T> constraint) {
+                for (final T element : elements) {
+                    if (!constraint.test(element)) {
+                        return false;
+                    }
+                }
+                return true;
             }
 
             /**
@@ -83,8 +95,20 @@ public abstract class ConstrainableGroup<T> implements Constrainable<T> {
              */
             @Override
             public Boolean apply(final Constraint<? super T> constraint) {
-                return elements.stream()
-                               .anyMatch(constraint::test);
+                return check(constraint);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean check(final Constraint<? super T> constraint) {
+                for (final T element : elements) {
+                    if (constraint.test(element)) {
+                        return true;
+                    }
+                }
+                return false;
             }
 
             /**
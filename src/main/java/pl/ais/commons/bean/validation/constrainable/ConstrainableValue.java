@@ -1,5 +1,6 @@
 package pl.ais.commons.bean.validation.constrainable;
 
+import pl.ais.commons.bean.facade.PropertyPath;
 import pl.ais.commons.bean.validation.Constraint;
 
 import javax.annotation.Nonnull;
@@ -10,7 +11,7 @@ import java.util.Objects;
  * Constrainable value.
  *
  * <p>Constrainable value has unique ID within the validation context. It can be for example a path to the property
- * of bean being validated.
+ * of bean being validated. Path to the property is rendered into the ID only when the ID is requested.
  *
  * @param <T> the type of the value being constrained
  * @author Warlock, AIS.PL
@@ -22,8 +23,22 @@ public final class ConstrainableValue<T> implements Constrainable<T> {
 
     private final String id;
 
+    private final PropertyPath path;
+
     private final T value;
 
+    /**
+     * Constructs new instance.
+     *
+     * @param path  path to the value in the current validation context
+     * @param value value to be constrained
+     */
+    public ConstrainableValue(@Nonnull final PropertyPath path, final T value) {
+        this.id = null;
+        this.path = path;
+        this.value = value;
+    }
+
     /**
      * Constructs new instance.
      *
@@ -32,6 +47,7 @@ public final class ConstrainableValue<T> implements Constrainable<T> {
      */
     public ConstrainableValue(final String id, final T value) {
         this.id = id;
+        this.path = null;
         this.value = value;
     }
 
@@ -48,6 +64,14 @@ public final class ConstrainableValue<T> implements Constrainable<T> {
      */
     @Override
     public Boolean apply(final Constraint<? super T> constraint) {
+        return check(constraint);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean check(final Constraint<? super T> constraint) {
         return constraint.test(value);
     }
 
@@ -59,16 +83,25 @@ public final class ConstrainableValue<T> implements Constrainable<T> {
         boolean result = (this == object);
         if (!result && (object instanceof ConstrainableValue)) {
             final ConstrainableValue other = (ConstrainableValue) object;
-            result = Objects.equals(id, other.id) && Objects.equals(value, other.value);
+            result = ((null == path) || (null == other.path) ? Objects.equals(getId(), other.getId()) : path.equals(other.path))
+                && Objects.equals(value, other.value);
         }
         return result;
     }
 
     /**
-     * @return path identifying the value in current validation context
+     * @return path identifying the value in current validation context (in Spring bean property path format)
      */
     public String getId() {
-        return id;
+        return (null == path) ? id : path.toString();
+    }
+
+    /**
+     * @return path to the value in current validation context
+     * @throws IllegalArgumentException if the value has been identified by the ID not being the property path
+     */
+    public PropertyPath getPath() {
+        return (null == path) ? PropertyPath.parse(id) : path;
     }
 
     /**
@@ -83,7 +116,21 @@ public final class ConstrainableValue<T> implements Constrainable<T> {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(id, value);
+        return 31 * ((null == path) ? hashCodeOf(id) : path.hashCode()) + Objects.hashCode(value);
+    }
+
+    /**
+     * Determines the hash code of given ID, consistent with the hash code of the property path rendered into it (if
+     * it's the property path), without rendering any path.
+     */
+    private static int hashCodeOf(final String id) {
+        int result;
+        try {
+            result = PropertyPath.parse(id).hashCode();
+        } catch (final IllegalArgumentException exception) {
+            result = Objects.hashCode(id);
+        }
+        return result;
     }
 
     /**
@@ -94,7 +141,7 @@ public final class ConstrainableValue<T> implements Constrainable<T> {
         return new StringBuilder().append("Constrainable value of '")
                                   .append(value)
                                   .append("' (")
-                                  .append(id)
+                                  .append(getId())
                                   .append(')')
                                   .toString();
     }
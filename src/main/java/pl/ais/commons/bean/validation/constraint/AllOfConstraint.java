@@ -27,7 +27,7 @@ public final class AllOfConstraint<T> extends AbstractConstraint<T> {
 
     private final boolean thorough;
 
-    private AllOfConstraint(@Nonnull final String name, final Constraint<T>[] constraints, final boolean active,
+    AllOfConstraint(@Nonnull final String name, final Constraint<T>[] constraints, final boolean active,
                             final boolean thorough, @Nonnull final Object[] messageParameters, @Nullable final String message) {
         super(name, active, messageParameters, message);
         this.constraints = Arrays.copyOf(constraints, constraints.length);
@@ -61,10 +61,18 @@ public final class AllOfConstraint<T> extends AbstractConstraint<T> {
     /**
      * {@inheritDoc}
      */
+    @Override
     @Nonnull
+    public Boolean apply(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+        return check(constrainable, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
     @Override
     @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
-    public Boolean apply(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+    public boolean check(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
         boolean result = false;
         processing:
         {
@@ -77,7 +85,7 @@ public final class AllOfConstraint<T> extends AbstractConstraint<T> {
                 }
 
                 // ... verify if constraint is satisfied, break processing if needed.
-                final boolean satisfied = constrainable.apply(constraint);
+                final boolean satisfied = constrainable.check(constraint);
                 if (!satisfied) {
                     listener.constraintViolated(new ConstraintViolated(this, constrainable));
                     if (!thorough) {
@@ -90,6 +98,13 @@ public final class AllOfConstraint<T> extends AbstractConstraint<T> {
         return result;
     }
 
+    /**
+     * @return the enclosed constraints (for the use of constraint compiler, shouldn't be modified)
+     */
+    Constraint<T>[] getConstraints() {
+        return constraints;
+    }
+
     /**
      * Indicates whether some other object is "equal to" this one.
      */
@@ -112,12 +127,19 @@ public final class AllOfConstraint<T> extends AbstractConstraint<T> {
         return Objects.hash(name, thorough, Arrays.hashCode(constraints));
     }
 
+    /**
+     * @return {@code true} if all enclosed constraints are verified, even if the result is determined already
+     */
+    boolean isThorough() {
+        return thorough;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Constraint<T> negate() {
-        return new SimpleConstraint<>(getNegatedName(), candidate -> !test(candidate));
+        return new SimpleConstraint<>(getNegatedName(), new Negation<>(this));
     }
 
     /**
@@ -125,9 +147,12 @@ public final class AllOfConstraint<T> extends AbstractConstraint<T> {
      */
     @Override
     public boolean test(@Nullable final T candidate) {
-        return Arrays.stream(constraints)
-                     .filter(Constraint::isActive)
-                     .allMatch(constraint -> constraint.test(candidate));
+        for (final Constraint<T> constraint : constraints) {
+            if (constraint.isActive() && !constraint.test(candidate)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -27,7 +27,7 @@ public final class AnyOfConstraint<T> extends AbstractConstraint<T> {
 
     private final boolean thorough;
 
-    private AnyOfConstraint(@Nonnull final String name, final Constraint<T>[] constraints, final boolean active,
+    AnyOfConstraint(@Nonnull final String name, final Constraint<T>[] constraints, final boolean active,
                             final boolean thorough, @Nonnull final Object[] messageParameters, @Nullable final String message) {
         super(name, active, messageParameters, message);
 
@@ -62,9 +62,17 @@ public final class AnyOfConstraint<T> extends AbstractConstraint<T> {
     /**
      * {@inheritDoc}
      */
-    @Nonnull
     @Override
+    @Nonnull
     public Boolean apply(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+        return check(constrainable, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean check(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
         boolean result = false;
         processing:
         {
@@ -77,7 +85,7 @@ public final class AnyOfConstraint<T> extends AbstractConstraint<T> {
                 }
 
                 // ... verify if constraint is satisfied, break processing if needed.
-                final boolean satisfied = constrainable.apply(constraint);
+                final boolean satisfied = constrainable.check(constraint);
                 result |= satisfied;
                 if (satisfied && !thorough) {
                     break processing;
@@ -91,6 +99,13 @@ public final class AnyOfConstraint<T> extends AbstractConstraint<T> {
         return result;
     }
 
+    /**
+     * @return the enclosed constraints (for the use of constraint compiler, shouldn't be modified)
+     */
+    Constraint<T>[] getConstraints() {
+        return constraints;
+    }
+
     /**
      * Indicates whether some other object is "equal to" this one.
      */
@@ -113,12 +128,19 @@ public final class AnyOfConstraint<T> extends AbstractConstraint<T> {
         return Objects.hash(name, thorough, Arrays.hashCode(constraints));
     }
 
+    /**
+     * @return {@code true} if all enclosed constraints are verified, even if the result is determined already
+     */
+    boolean isThorough() {
+        return thorough;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Constraint<T> negate() {
-        return new SimpleConstraint<>(getNegatedName(), candidate -> !test(candidate));
+        return new SimpleConstraint<>(getNegatedName(), new Negation<>(this));
     }
 
     /**
@@ -126,9 +148,12 @@ public final class AnyOfConstraint<T> extends AbstractConstraint<T> {
      */
     @Override
     public boolean test(@Nullable final T candidate) {
-        return Arrays.stream(constraints)
-                     .filter(Constraint::isActive)
-                     .anyMatch(constraint -> constraint.test(candidate));
+        for (final Constraint<T> constraint : constraints) {
+            if (constraint.isActive() && constraint.test(candidate)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
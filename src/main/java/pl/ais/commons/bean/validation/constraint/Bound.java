@@ -0,0 +1,188 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import pl.ais.commons.domain.specification.Specifications;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Determinant of the constraint comparing the values with the boundary.
+ *
+ * <p>Unlike the plain predicate, it describes the comparison (its kind and the boundary), allowing the
+ * {@link ConstraintOptimizer constraint optimizer} to merge the bounds into the ranges. Comparison itself is
+ * delegated to the {@link Specifications specifications}.
+ *
+ * @param <T> the type of compared values
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+public final class Bound<T extends Comparable<? super T>> implements Predicate<T> {
+
+    private final T boundary;
+
+    private final Predicate<T> comparison;
+
+    private final Kind kind;
+
+    private Bound(@Nonnull final Kind kind, final T boundary, @Nonnull final Predicate<T> comparison) {
+        this.kind = kind;
+        this.boundary = boundary;
+        this.comparison = comparison;
+    }
+
+    /**
+     * Creates and returns the bound of given kind.
+     *
+     * @param kind     the kind of comparison
+     * @param boundary the boundary
+     * @param <T>      the type of compared values
+     * @return newly created bound
+     */
+    public static <T extends Comparable<? super T>> Bound<T> of(@Nonnull final Kind kind, final T boundary) {
+        final Predicate<T> comparison;
+        switch (kind) {
+            case GREATER_THAN:
+                comparison = Specifications.after(boundary);
+                break;
+            case GREATER_THAN_OR_EQUAL_TO:
+                comparison = Specifications.before(boundary).negate();
+                break;
+            case LESS_THAN:
+                comparison = Specifications.before(boundary);
+                break;
+            default:
+                comparison = Specifications.after(boundary).negate();
+                break;
+        }
+        return new Bound<>(kind, boundary, comparison);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        boolean result = (this == object);
+        if (!result && (object instanceof Bound)) {
+            final Bound<?> other = (Bound<?>) object;
+            result = (kind == other.kind) && Objects.equals(boundary, other.boundary);
+        }
+        return result;
+    }
+
+    /**
+     * @return the boundary
+     */
+    public T getBoundary() {
+        return boundary;
+    }
+
+    /**
+     * @return the kind of comparison
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return a hash code value for this bound
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, boundary);
+    }
+
+    /**
+     * @return {@code true} if the boundary itself satisfies this bound, {@code false} otherwise
+     */
+    public boolean isInclusive() {
+        return kind.inclusive;
+    }
+
+    /**
+     * @return {@code true} if this is the lower bound, {@code false} if it's the upper one
+     */
+    public boolean isLower() {
+        return kind.lower;
+    }
+
+    /**
+     * Creates and returns the bound complementary to this one.
+     *
+     * @return the bound complementary to this one
+     */
+    @Override
+    public Bound<T> negate() {
+        return new Bound<>(kind.complement(), boundary, comparison.negate());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(@Nullable final T candidate) {
+        return comparison.test(candidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return kind.symbol + ' ' + boundary;
+    }
+
+    /**
+     * Kind of the comparison.
+     */
+    public enum Kind {
+
+        GREATER_THAN(true, false, ">"),
+
+        GREATER_THAN_OR_EQUAL_TO(true, true, ">="),
+
+        LESS_THAN(false, false, "<"),
+
+        LESS_THAN_OR_EQUAL_TO(false, true, "<=");
+
+        private final boolean inclusive;
+
+        private final boolean lower;
+
+        private final String symbol;
+
+        Kind(final boolean lower, final boolean inclusive, final String symbol) {
+            this.lower = lower;
+            this.inclusive = inclusive;
+            this.symbol = symbol;
+        }
+
+        /**
+         * @return the kind of comparison complementary to this one
+         */
+        public Kind complement() {
+            final Kind result;
+            switch (this) {
+                case GREATER_THAN:
+                    result = LESS_THAN_OR_EQUAL_TO;
+                    break;
+                case GREATER_THAN_OR_EQUAL_TO:
+                    result = LESS_THAN;
+                    break;
+                case LESS_THAN:
+                    result = GREATER_THAN_OR_EQUAL_TO;
+                    break;
+                default:
+                    result = GREATER_THAN;
+                    break;
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Constraint comparing the values with the boundary, exposing the {@link Bound bound} describing the comparison to
+ * the {@link ConstraintOptimizer constraint optimizer}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+interface BoundedConstraint {
+
+    /**
+     * @return the bound describing the comparison (and verifying the boxed values)
+     */
+    @Nonnull
+    Bound<?> getBound();
+
+}
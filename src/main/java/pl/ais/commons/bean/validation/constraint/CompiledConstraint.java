@@ -0,0 +1,407 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import pl.ais.commons.bean.validation.Constraint;
+import pl.ais.commons.bean.validation.constrainable.Constrainable;
+import pl.ais.commons.bean.validation.constrainable.ConstrainableGroup;
+import pl.ais.commons.bean.validation.event.ConstraintViolated;
+import pl.ais.commons.bean.validation.event.ValidationListener;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Constraint compiled into the flat evaluation program.
+ *
+ * <p>Constraint tree (built of {@link AllOfConstraint conjunctions}, {@link AnyOfConstraint disjunctions}, negations
+ * and {@link SimpleConstraint simple constraints}) is compiled into the array of determinants of simple constraints,
+ * accompanied by the precomputed indexes of determinants to be evaluated next, if the current one is satisfied or
+ * violated. Constraint is {@link ConstraintOptimizer optimized} first, inactive constraints are removed, and negations
+ * are pushed down to the simple constraints, so the evaluation is a single loop, without any streams or nested
+ * constraint calls.
+ *
+ * <p>Compiled constraint can be {@link #specialize() specialized} further, by generating the validator class
+ * evaluating its program, calling each determinant from its own (monomorphic) call site.
+ *
+ * <p>Compiled constraint is immutable, and can be reused by multiple threads. It's described by the name, message
+ * and message parameters of the source constraint, and reports the violations of the source constraint.
+ *
+ * @param <T> the type of values supported by the constraint
+ * @author Warlock, AIS.PL
+ * @see pl.ais.commons.bean.validation.Constraints#compile(Constraint)
+ * @since 1.4.3
+ */
+@Immutable
+public final class CompiledConstraint<T> extends AbstractConstraint<T> {
+
+    /**
+     * Index of the pseudo-instruction accepting the candidate.
+     */
+    private static final int ACCEPT = -1;
+
+    /**
+     * Index of the pseudo-instruction rejecting the candidate.
+     */
+    private static final int REJECT = -2;
+
+    private final boolean conjunction;
+
+    private final Predicate<Object>[] determinants;
+
+    private final int entry;
+
+    private final int[] onSatisfied;
+
+    private final int[] onViolated;
+
+    private final Constraint<T> source;
+
+    /**
+     * Instance of the validator class generated for this constraint, {@code null} if the constraint has not been
+     * specialized.
+     */
+    private final Predicate<Object> specialized;
+
+    /**
+     * Top-level constraints of the source conjunction/disjunction compiled separately, applied one by one to the
+     * constrainable (to preserve the semantics of constrainable groups), {@code null} for other constraints.
+     */
+    private final CompiledConstraint<T>[] steps;
+
+    private final boolean thorough;
+
+    @SuppressWarnings("unchecked")
+    private CompiledConstraint(@Nonnull final Constraint<T> source, final boolean decomposed) {
+        super(source.getName(), source.isActive(), source.getMessageParameters(), source.getMessage());
+        this.source = source;
+        specialized = null;
+
+        // Compile the (optimized) source constraint into the program, ...
+        final ProgramBuilder builder = new ProgramBuilder();
+        final int start = builder.emit(ConstraintOptimizer.optimize(source), false, ACCEPT, REJECT);
+        final int length = builder.determinants.size();
+        determinants = (Predicate<Object>[]) builder.determinants.toArray(new Predicate<?>[length]);
+        onSatisfied = new int[length];
+        onViolated = new int[length];
+
+        // ... reversing the instructions (emitted from the last to the first one).
+        for (int index = 0; index < length; index++) {
+            onSatisfied[length - 1 - index] = reversed(builder.onSatisfied.get(index), length);
+            onViolated[length - 1 - index] = reversed(builder.onViolated.get(index), length);
+        }
+        for (int low = 0, high = length - 1; low < high; low++, high--) {
+            final Predicate<Object> determinant = determinants[low];
+            determinants[low] = determinants[high];
+            determinants[high] = determinant;
+        }
+        entry = reversed(start, length);
+
+        // Compile the top-level constraints of the conjunction/disjunction separately, if needed.
+        final Constraint<T>[] enclosed = (source instanceof AllOfConstraint) ? ((AllOfConstraint<T>) source).getConstraints()
+            : ((source instanceof AnyOfConstraint) ? ((AnyOfConstraint<T>) source).getConstraints() : null);
+        if (decomposed && (null != enclosed)) {
+            final List<CompiledConstraint<T>> compiled = new ArrayList<>(enclosed.length);
+            for (final Constraint<T> constraint : enclosed) {
+                if (constraint.isActive()) {
+                    compiled.add(new CompiledConstraint<>(constraint, false));
+                }
+            }
+            steps = (CompiledConstraint<T>[]) compiled.toArray(new CompiledConstraint<?>[compiled.size()]);
+            conjunction = source instanceof AllOfConstraint;
+            thorough = conjunction ? ((AllOfConstraint<T>) source).isThorough() : ((AnyOfConstraint<T>) source).isThorough();
+        } else {
+            steps = null;
+            conjunction = false;
+            thorough = false;
+        }
+    }
+
+    private CompiledConstraint(@Nonnull final CompiledConstraint<T> compiled, @Nonnull final Predicate<Object> specialized) {
+        super(compiled.name, compiled.active, compiled.messageParameters, compiled.message);
+        source = compiled.source;
+        conjunction = compiled.conjunction;
+        determinants = compiled.determinants;
+        entry = compiled.entry;
+        onSatisfied = compiled.onSatisfied;
+        onViolated = compiled.onViolated;
+        steps = compiled.steps;
+        thorough = compiled.thorough;
+        this.specialized = specialized;
+    }
+
+    /**
+     * Compiles given constraint into the flat evaluation program.
+     *
+     * @param constraint the constraint to be compiled
+     * @param <T>        the type of values supported by the constraint
+     * @return compiled constraint, equivalent to given one
+     */
+    public static <T> CompiledConstraint<T> compile(@Nonnull final Constraint<T> constraint) {
+        return (constraint instanceof CompiledConstraint) ? (CompiledConstraint<T>) constraint
+            : new CompiledConstraint<>(constraint, true);
+    }
+
+    private static int reversed(final int index, final int length) {
+        return (index < 0) ? index : (length - 1 - index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nonnull
+    public Boolean apply(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+        return check(constrainable, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean check(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+        final boolean result;
+
+        // Top-level constraints are applied one by one only if it matters (for the groups of values, or when all the
+        // violations should be reported), whole program is evaluated at once otherwise.
+        if ((null == steps) || (!thorough && !(constrainable instanceof ConstrainableGroup))) {
+            result = constrainable.check(this);
+            if (!result) {
+                listener.constraintViolated(new ConstraintViolated(source, constrainable));
+            }
+        } else {
+            result = conjunction ? applyConjunction(constrainable, listener) : applyDisjunction(constrainable, listener);
+        }
+        return result;
+    }
+
+    private boolean applyConjunction(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+        for (final CompiledConstraint<T> step : steps) {
+            if (!constrainable.check(step)) {
+                listener.constraintViolated(new ConstraintViolated(source, constrainable));
+                if (!thorough) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean applyDisjunction(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+        boolean result = false;
+        for (final CompiledConstraint<T> step : steps) {
+            final boolean satisfied = constrainable.check(step);
+            result |= satisfied;
+            if (satisfied && !thorough) {
+                break;
+            }
+        }
+        if (!result) {
+            listener.constraintViolated(new ConstraintViolated(source, constrainable));
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        return (this == object) || ((object instanceof CompiledConstraint) && source.equals(((CompiledConstraint) object).source));
+    }
+
+    /**
+     * @return the source constraint
+     */
+    public Constraint<T> getSource() {
+        return source;
+    }
+
+    /**
+     * @return a hash code value for this constraint
+     */
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Constraint<T> negate() {
+        return recompiled(source.negate(), false);
+    }
+
+    /**
+     * Compiles given constraint (derived from the source constraint), specializing it, if this constraint has been
+     * specialized.
+     *
+     * @param derived     the constraint derived from the source constraint
+     * @param sameProgram indicates if the derived constraint is evaluated the same way as the source constraint
+     *                    (and the validator class of this constraint can be reused)
+     * @return compiled constraint, equivalent to given one
+     */
+    private CompiledConstraint<T> recompiled(final Constraint<T> derived, final boolean sameProgram) {
+        CompiledConstraint<T> result = compile(derived);
+        if (null != specialized) {
+            result = sameProgram ? new CompiledConstraint<>(result, specialized) : result.specialize();
+        }
+        return result;
+    }
+
+    /**
+     * Specializes this constraint, by generating (using ASM) the validator class evaluating its program.
+     *
+     * <p>Validator class is generated for each specialized constraint (and defined as the hidden class, if supported),
+     * so the specialization should be used for the constraints created once, and evaluated many times. Constraints
+     * having too many determinants are not specialized.
+     *
+     * @return specialized constraint, equivalent to this one
+     */
+    @SuppressWarnings("unchecked")
+    public CompiledConstraint<T> specialize() {
+        CompiledConstraint<T> result = this;
+        if ((null == specialized) && (determinants.length <= ValidatorClassGenerator.MAX_DETERMINANTS)) {
+            final String name = CompiledConstraint.class.getName() + "$$Validator";
+            final Class<?> validatorClass = ValidatorClasses.define(name,
+                ValidatorClassGenerator.generate(name, entry, onSatisfied, onViolated, ACCEPT));
+            try {
+                final Object validator = validatorClass.getConstructor(Predicate[].class)
+                                                       .newInstance((Object) determinants.clone());
+                result = new CompiledConstraint<>(this, (Predicate<Object>) validator);
+            } catch (final ReflectiveOperationException exception) {
+                throw new IllegalStateException("Unable to instantiate validator class for " + source + ".", exception);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(@Nullable final T candidate) {
+        if (null != specialized) {
+            return specialized.test(candidate);
+        }
+        int index = entry;
+        while (index >= 0) {
+            index = determinants[index].test(candidate) ? onSatisfied[index] : onViolated[index];
+        }
+        return ACCEPT == index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return ((null == specialized) ? "Compiled " : "Specialized ") + source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public CompiledConstraint<T> when(final boolean active) {
+        return recompiled(source.when(active), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public CompiledConstraint<T> withDescription(@Nonnull final String message, final Object... messageParameters) {
+        return recompiled(source.withDescription(message, messageParameters), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public CompiledConstraint<T> withMessageParameters(final Object... messageParameters) {
+        return recompiled(source.withMessageParameters(messageParameters), true);
+    }
+
+    /**
+     * Builder of the evaluation program, emitting the instructions from the last to the first one, so the indexes of
+     * instructions to be evaluated next are known when emitting the instruction.
+     */
+    private static final class ProgramBuilder {
+
+        private final List<Predicate<Object>> determinants = new ArrayList<>();
+
+        private final List<Integer> onSatisfied = new ArrayList<>();
+
+        private final List<Integer> onViolated = new ArrayList<>();
+
+        /**
+         * Emits the instructions evaluating given constraint.
+         *
+         * @param constraint  the constraint to be evaluated
+         * @param negated     indicates if the constraint is negated
+         * @param onSatisfied index of the instruction to be evaluated next, if the (negated) constraint is satisfied
+         * @param onViolated  index of the instruction to be evaluated next, if the (negated) constraint is violated
+         * @return index of the first instruction evaluating given constraint
+         */
+        @SuppressWarnings("unchecked")
+        int emit(final Constraint<?> constraint, final boolean negated, final int onSatisfied, final int onViolated) {
+            final int result;
+            if (constraint instanceof CompiledConstraint) {
+                result = emit(((CompiledConstraint<?>) constraint).source, negated, onSatisfied, onViolated);
+            } else if (constraint instanceof SimpleConstraint) {
+                final Predicate<?> determinant = ((SimpleConstraint<?>) constraint).getDeterminant();
+                if (!constraint.isActive()) {
+
+                    // Inactive simple constraint is satisfied by any candidate, ...
+                    result = negated ? onViolated : onSatisfied;
+                } else if (determinant instanceof Negation) {
+
+                    // ... negation is pushed down to the negated constraint, ...
+                    result = emit(((Negation<?>) determinant).getNegated(), !negated, onSatisfied, onViolated);
+                } else {
+                    result = instruction((Predicate<Object>) determinant, negated, onSatisfied, onViolated);
+                }
+            } else if (constraint instanceof AllOfConstraint) {
+
+                // ... negated conjunction is the disjunction of negated constraints, ...
+                result = emitComposite(((AllOfConstraint<?>) constraint).getConstraints(), !negated, negated, onSatisfied, onViolated);
+            } else if (constraint instanceof AnyOfConstraint) {
+                result = emitComposite(((AnyOfConstraint<?>) constraint).getConstraints(), negated, negated, onSatisfied, onViolated);
+            } else {
+
+                // ... and other constraints are evaluated as they are.
+                result = instruction(((Constraint<Object>) constraint)::test, negated, onSatisfied, onViolated);
+            }
+            return result;
+        }
+
+        private int emitComposite(final Constraint<?>[] constraints, final boolean conjunctive, final boolean negated,
+                                  final int onSatisfied, final int onViolated) {
+            int next = conjunctive ? onSatisfied : onViolated;
+            for (int index = constraints.length - 1; index >= 0; index--) {
+                if (constraints[index].isActive()) {
+                    next = conjunctive ? emit(constraints[index], negated, next, onViolated)
+                        : emit(constraints[index], negated, onSatisfied, next);
+                }
+            }
+            return next;
+        }
+
+        private int instruction(final Predicate<Object> determinant, final boolean negated, final int onSatisfied,
+                                final int onViolated) {
+            determinants.add(determinant);
+            this.onSatisfied.add(negated ? onViolated : onSatisfied);
+            this.onViolated.add(negated ? onSatisfied : onViolated);
+            return determinants.size() - 1;
+        }
+
+    }
+
+}
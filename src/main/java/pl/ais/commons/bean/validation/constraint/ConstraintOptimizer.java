@@ -0,0 +1,273 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import pl.ais.commons.bean.validation.Constraint;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites the constraint trees into the equivalent, cheaper to evaluate ones.
+ *
+ * <p>Optimizer:
+ * <ul>
+ * <li>drops inactive constraints ({@code when(false)} branches) enclosed by the conjunctions and disjunctions,</li>
+ * <li>flattens nested conjunctions (disjunctions) into enclosing conjunction (disjunction),</li>
+ * <li>removes duplicated constraints enclosed by the same conjunction (disjunction),</li>
+ * <li>keeps only the strictest of the {@link Bound bounds} of the same kind enclosed by the same conjunction
+ * (including the bounds of the {@link IntBoundConstraint primitive bound constraints}), and merges the lower and upper
+ * bound into single range check,</li>
+ * <li>removes double negations,</li>
+ * <li>replaces the conjunction (disjunction) enclosing single constraint with this constraint.</li>
+ * </ul>
+ *
+ * <p>Rewritten constraints are described by the names, messages and message parameters of the constraints they
+ * replace, so the violations are reported the same way. Thorough conjunctions (disjunctions) are not rewritten
+ * (except dropping the inactive constraints and rewriting the enclosed ones), because they report each violation.
+ *
+ * <p>Optimized constraint is equivalent to the original one when verifying single values only. Conjunction
+ * (disjunction) verified against the group of values verifies each enclosed constraint against the whole group, so
+ * rewriting its enclosed constraints may affect the result. Therefore the optimizer is used only by the
+ * {@link CompiledConstraint compiled constraints}, which take care of it.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class ConstraintOptimizer {
+
+    private ConstraintOptimizer() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    @Nullable
+    private static Bound boundOf(final Constraint constraint) {
+        Bound result = null;
+        if ((constraint instanceof SimpleConstraint) && (((SimpleConstraint) constraint).getDeterminant() instanceof Bound)) {
+            result = (Bound) ((SimpleConstraint) constraint).getDeterminant();
+        } else if (constraint instanceof BoundedConstraint) {
+            result = ((BoundedConstraint) constraint).getBound();
+        }
+        return result;
+    }
+
+    /**
+     * Rewrites the active constraints enclosed by the conjunction (disjunction), collecting them into given list.
+     *
+     * <p>Nested conjunctions (disjunctions) are flattened before being rewritten, so their constraints can be
+     * merged with the constraints enclosed by the outer one. Duplicated constraints are skipped, unless the
+     * conjunction (disjunction) is thorough.
+     *
+     * @param constraints the constraints enclosed by the conjunction (disjunction)
+     * @param thorough    indicates if the conjunction (disjunction) is thorough
+     * @param conjunctive indicates if the constraints are enclosed by the conjunction
+     * @param collected   the list collecting rewritten constraints
+     */
+    private static void collect(final Constraint[] constraints, final boolean thorough, final boolean conjunctive,
+                                final List<Constraint> collected) {
+        for (final Constraint constraint : constraints) {
+            if (constraint.isActive()) {
+                final Constraint[] nested = thorough ? null : nestedConstraints(constraint, conjunctive);
+                if (null == nested) {
+                    final Constraint candidate = rewrite(constraint);
+                    final Constraint[] flattened = thorough ? null : nestedConstraints(candidate, conjunctive);
+                    if (null != flattened) {
+                        collect(flattened, false, conjunctive, collected);
+                    } else if (thorough || !collected.contains(candidate)) {
+                        collected.add(candidate);
+                    }
+                } else {
+                    collect(nested, false, conjunctive, collected);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps only the strictest of the bounds of the same kind enclosed by the conjunction, merging the lower and upper
+     * bound into single range check, if possible.
+     *
+     * @param constraints the constraints enclosed by the conjunction
+     * @return the constraints with the bounds merged
+     */
+    private static List<Constraint> mergeBounds(final List<Constraint> constraints) {
+        final Map<Bound.Kind, Constraint> strictest = new EnumMap<>(Bound.Kind.class);
+        int first = -1;
+        int count = 0;
+        for (int index = 0; index < constraints.size(); index++) {
+            final Bound bound = boundOf(constraints.get(index));
+            if (null != bound) {
+                if (null == bound.getBoundary()) {
+                    return constraints;
+                }
+                final Constraint current = strictest.get(bound.getKind());
+                if (null == current) {
+                    strictest.put(bound.getKind(), constraints.get(index));
+                } else {
+                    final Object boundary = boundOf(current).getBoundary();
+                    if (boundary.getClass() != bound.getBoundary().getClass()) {
+                        return constraints;
+                    }
+                    final int comparison = bound.getBoundary().compareTo(boundary);
+                    if (bound.isLower() ? (comparison > 0) : (comparison < 0)) {
+                        strictest.put(bound.getKind(), constraints.get(index));
+                    }
+                }
+                first = (first < 0) ? index : first;
+                count++;
+            }
+        }
+
+        // Replace the bounds with the strictest ones (merged into the range, if there are exactly two of them).
+        List<Constraint> result = constraints;
+        if (count > 1) {
+            final List<Constraint> bounds = new ArrayList<>(strictest.values());
+            if ((2 == bounds.size()) && (boundOf(bounds.get(0)).isLower() != boundOf(bounds.get(1)).isLower())) {
+                final Bound lower = boundOf(bounds.get(0)).isLower() ? boundOf(bounds.get(0)) : boundOf(bounds.get(1));
+                final Bound upper = boundOf(bounds.get(0)).isLower() ? boundOf(bounds.get(1)) : boundOf(bounds.get(0));
+                bounds.clear();
+                bounds.add(new SimpleConstraint<>("range", new Range<>(lower, upper)));
+            }
+            result = new ArrayList<>(constraints.size());
+            for (int index = 0; index < constraints.size(); index++) {
+                if (index == first) {
+                    result.addAll(bounds);
+                } else if (null == boundOf(constraints.get(index))) {
+                    result.add(constraints.get(index));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Provides the constraints enclosed by given constraint, if it's the (non-thorough) conjunction or disjunction,
+     * as requested.
+     *
+     * @param constraint  the constraint
+     * @param conjunctive indicates if the conjunction is requested
+     * @return the constraints enclosed by given constraint, or {@code null} if it's not the requested composite
+     */
+    @Nullable
+    private static Constraint[] nestedConstraints(final Constraint constraint, final boolean conjunctive) {
+        Constraint[] result = null;
+        if (conjunctive && (constraint instanceof AllOfConstraint) && !((AllOfConstraint) constraint).isThorough()) {
+            result = ((AllOfConstraint) constraint).getConstraints();
+        } else if (!conjunctive && (constraint instanceof AnyOfConstraint) && !((AnyOfConstraint) constraint).isThorough()) {
+            result = ((AnyOfConstraint) constraint).getConstraints();
+        }
+        return result;
+    }
+
+    /**
+     * Rewrites given constraint into the equivalent, cheaper to evaluate one.
+     *
+     * @param constraint the constraint to be optimized
+     * @param <T>        the type of values supported by the constraint
+     * @return the optimized constraint (or given constraint itself, if it cannot be optimized)
+     */
+    static <T> Constraint<T> optimize(@Nonnull final Constraint<T> constraint) {
+        return rewrite(constraint);
+    }
+
+    /**
+     * Creates the constraint evaluated the same way as given one, but described by the descriptor.
+     *
+     * @param constraint the constraint to be evaluated
+     * @param descriptor the (active) constraint describing the result
+     * @return the constraint evaluated (and reporting the violations) the same way as given one, or {@code null} if it
+     * cannot be created
+     */
+    @Nullable
+    private static Constraint redescribed(final Constraint constraint, final Constraint descriptor) {
+        Constraint result = null;
+        if ((constraint instanceof SimpleConstraint) && constraint.isActive()) {
+            result = new SimpleConstraint(descriptor.getName(), ((SimpleConstraint) constraint).getDeterminant(), true,
+                descriptor.getMessageParameters(), descriptor.getMessage());
+        } else if ((constraint instanceof AllOfConstraint) && !((AllOfConstraint) constraint).isThorough()) {
+            result = new AllOfConstraint(descriptor.getName(), ((AllOfConstraint) constraint).getConstraints(), true,
+                false, descriptor.getMessageParameters(), descriptor.getMessage());
+        } else if ((constraint instanceof AnyOfConstraint) && !((AnyOfConstraint) constraint).isThorough()) {
+            result = new AnyOfConstraint(descriptor.getName(), ((AnyOfConstraint) constraint).getConstraints(), true,
+                false, descriptor.getMessageParameters(), descriptor.getMessage());
+        }
+        return result;
+    }
+
+    private static Constraint rewrite(final Constraint constraint) {
+        final Constraint result;
+        if (constraint instanceof CompiledConstraint) {
+            result = rewrite(((CompiledConstraint) constraint).getSource());
+        } else if (constraint instanceof SimpleConstraint) {
+            result = rewriteSimple((SimpleConstraint) constraint);
+        } else if (constraint instanceof AllOfConstraint) {
+            final AllOfConstraint conjunction = (AllOfConstraint) constraint;
+            result = rewriteComposite(conjunction, conjunction.getConstraints(), conjunction.isThorough(), true);
+        } else if (constraint instanceof AnyOfConstraint) {
+            final AnyOfConstraint disjunction = (AnyOfConstraint) constraint;
+            result = rewriteComposite(disjunction, disjunction.getConstraints(), disjunction.isThorough(), false);
+        } else {
+            result = constraint;
+        }
+        return result;
+    }
+
+    private static Constraint rewriteComposite(final Constraint composite, final Constraint[] constraints,
+                                               final boolean thorough, final boolean conjunctive) {
+
+        // Drop inactive constraints, rewrite the remaining ones (flattening nested conjunctions/disjunctions), ...
+        List<Constraint> rewritten = new ArrayList<>(constraints.length);
+        collect(constraints, thorough, conjunctive, rewritten);
+
+        // ... merge the bounds, and replace the composite enclosing single constraint with this constraint.
+        if (!thorough && conjunctive) {
+            rewritten = mergeBounds(rewritten);
+        }
+        Constraint result = null;
+        if (rewritten.isEmpty() || rewritten.equals(Arrays.asList(constraints))) {
+            result = composite;
+        } else if (!thorough && (1 == rewritten.size()) && composite.isActive()) {
+            result = redescribed(rewritten.get(0), composite);
+        }
+        if (null == result) {
+            final Constraint[] enclosed = rewritten.toArray(new Constraint[rewritten.size()]);
+            result = conjunctive
+                ? new AllOfConstraint(composite.getName(), enclosed, composite.isActive(), thorough,
+                composite.getMessageParameters(), composite.getMessage())
+                : new AnyOfConstraint(composite.getName(), enclosed, composite.isActive(), thorough,
+                composite.getMessageParameters(), composite.getMessage());
+        }
+        return result;
+    }
+
+    private static Constraint rewriteSimple(final SimpleConstraint constraint) {
+        Constraint result = constraint;
+        if (constraint.isActive() && (constraint.getDeterminant() instanceof Negation)) {
+            final Constraint negated = ((Negation) constraint.getDeterminant()).getNegated();
+            final Constraint rewritten = rewrite(negated);
+
+            // Remove double negation, if possible (negated constraint of the rewritten negation is rewritten already), ...
+            Constraint affirmed = null;
+            if ((rewritten instanceof SimpleConstraint) && rewritten.isActive()
+                && (((SimpleConstraint) rewritten).getDeterminant() instanceof Negation)) {
+                affirmed = redescribed(((Negation) ((SimpleConstraint) rewritten).getDeterminant()).getNegated(), constraint);
+            }
+
+            // ... or negate the rewritten constraint.
+            if (null != affirmed) {
+                result = affirmed;
+            } else if (rewritten != negated) {
+                result = new SimpleConstraint(constraint.getName(), new Negation(rewritten), true,
+                    constraint.getMessageParameters(), constraint.getMessage());
+            }
+        }
+        return result;
+    }
+
+}
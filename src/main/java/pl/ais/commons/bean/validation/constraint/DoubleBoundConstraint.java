@@ -0,0 +1,171 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import pl.ais.commons.bean.validation.DoubleConstraint;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
+
+/**
+ * Constraint comparing the {@code double} values with the boundary, without boxing them.
+ *
+ * <p>Boxed values are verified by the {@link Bound bound} of the same kind, so they're verified the same way as by
+ * the equivalent {@link SimpleConstraint simple constraint}.
+ *
+ * <p>Values are compared the same way as by {@link Double#compareTo(Double)}, consistently with the comparison of
+ * the boxed values ({@code -0.0d} is less than {@code 0.0d}, and {@code NaN} is greater than any other value).
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+public final class DoubleBoundConstraint extends AbstractConstraint<Double> implements DoubleConstraint, BoundedConstraint {
+
+    private final Bound<Double> bound;
+
+    private final double boundary;
+
+    private final Bound.Kind kind;
+
+    private DoubleBoundConstraint(@Nonnull final String name, @Nonnull final Bound.Kind kind, final double boundary,
+                                  final boolean active, @Nonnull final Object[] messageParameters, @Nullable final String message) {
+        super(name, active, messageParameters, message);
+
+        // Verify constructor requirements, ...
+        Objects.requireNonNull(name, "DoubleBoundConstraint name is required.");
+        Objects.requireNonNull(kind, "DoubleBoundConstraint kind is required.");
+        Objects.requireNonNull(messageParameters, "Invalid message parameters provided");
+
+        // ... and initialize this instance fields.
+        this.bound = Bound.of(kind, boundary);
+        this.boundary = boundary;
+        this.kind = kind;
+    }
+
+    /**
+     * Constructs new instance.
+     *
+     * @param name     name of the constraint
+     * @param kind     the kind of comparison
+     * @param boundary the boundary
+     */
+    public DoubleBoundConstraint(@Nonnull final String name, @Nonnull final Bound.Kind kind, final double boundary) {
+        this(name, kind, boundary, true, ZERO_LENGTH_ARRAY, null);
+    }
+
+    private boolean compare(final double candidate) {
+        final boolean result;
+        switch (kind) {
+            case GREATER_THAN:
+                result = Double.compare(candidate, boundary) > 0;
+                break;
+            case GREATER_THAN_OR_EQUAL_TO:
+                result = Double.compare(candidate, boundary) >= 0;
+                break;
+            case LESS_THAN:
+                result = Double.compare(candidate, boundary) < 0;
+                break;
+            default:
+                result = Double.compare(candidate, boundary) <= 0;
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        boolean result = (this == object);
+        if (!result && (object instanceof DoubleBoundConstraint)) {
+            final DoubleBoundConstraint other = (DoubleBoundConstraint) object;
+            result = Objects.equals(name, other.name) && bound.equals(other.bound);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Bound<Double> getBound() {
+        return bound;
+    }
+
+    /**
+     * @return a hash code value for this constraint
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DoubleConstraint negate() {
+        return new DoubleBoundConstraint(getNegatedName(), kind.complement(), boundary);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(@Nullable final Double candidate) {
+        return !active || ((null == candidate) ? bound.test(null) : compare(candidate));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean testDouble(final double candidate) {
+        return !active || compare(candidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder().append("Constraint '")
+                                  .append(bound)
+                                  .append('\'')
+                                  .toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public DoubleBoundConstraint when(final boolean active) {
+        return new DoubleBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public DoubleBoundConstraint withDescription(final String message, final Object... messageParameters) {
+        return new DoubleBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public DoubleBoundConstraint withMessageParameters(final Object... messageParameters) {
+        return new DoubleBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+}
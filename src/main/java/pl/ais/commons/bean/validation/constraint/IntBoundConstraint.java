@@ -0,0 +1,168 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import pl.ais.commons.bean.validation.IntConstraint;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
+
+/**
+ * Constraint comparing the {@code int} values with the boundary, without boxing them.
+ *
+ * <p>Boxed values are verified by the {@link Bound bound} of the same kind, so they're verified the same way as by
+ * the equivalent {@link SimpleConstraint simple constraint}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+public final class IntBoundConstraint extends AbstractConstraint<Integer> implements IntConstraint, BoundedConstraint {
+
+    private final Bound<Integer> bound;
+
+    private final int boundary;
+
+    private final Bound.Kind kind;
+
+    private IntBoundConstraint(@Nonnull final String name, @Nonnull final Bound.Kind kind, final int boundary,
+                               final boolean active, @Nonnull final Object[] messageParameters, @Nullable final String message) {
+        super(name, active, messageParameters, message);
+
+        // Verify constructor requirements, ...
+        Objects.requireNonNull(name, "IntBoundConstraint name is required.");
+        Objects.requireNonNull(kind, "IntBoundConstraint kind is required.");
+        Objects.requireNonNull(messageParameters, "Invalid message parameters provided");
+
+        // ... and initialize this instance fields.
+        this.bound = Bound.of(kind, boundary);
+        this.boundary = boundary;
+        this.kind = kind;
+    }
+
+    /**
+     * Constructs new instance.
+     *
+     * @param name     name of the constraint
+     * @param kind     the kind of comparison
+     * @param boundary the boundary
+     */
+    public IntBoundConstraint(@Nonnull final String name, @Nonnull final Bound.Kind kind, final int boundary) {
+        this(name, kind, boundary, true, ZERO_LENGTH_ARRAY, null);
+    }
+
+    private boolean compare(final int candidate) {
+        final boolean result;
+        switch (kind) {
+            case GREATER_THAN:
+                result = candidate > boundary;
+                break;
+            case GREATER_THAN_OR_EQUAL_TO:
+                result = candidate >= boundary;
+                break;
+            case LESS_THAN:
+                result = candidate < boundary;
+                break;
+            default:
+                result = candidate <= boundary;
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        boolean result = (this == object);
+        if (!result && (object instanceof IntBoundConstraint)) {
+            final IntBoundConstraint other = (IntBoundConstraint) object;
+            result = Objects.equals(name, other.name) && bound.equals(other.bound);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Bound<Integer> getBound() {
+        return bound;
+    }
+
+    /**
+     * @return a hash code value for this constraint
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntConstraint negate() {
+        return new IntBoundConstraint(getNegatedName(), kind.complement(), boundary);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(@Nullable final Integer candidate) {
+        return !active || ((null == candidate) ? bound.test(null) : compare(candidate));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean testInt(final int candidate) {
+        return !active || compare(candidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder().append("Constraint '")
+                                  .append(bound)
+                                  .append('\'')
+                                  .toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public IntBoundConstraint when(final boolean active) {
+        return new IntBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public IntBoundConstraint withDescription(final String message, final Object... messageParameters) {
+        return new IntBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public IntBoundConstraint withMessageParameters(final Object... messageParameters) {
+        return new IntBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+}
@@ -0,0 +1,168 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import pl.ais.commons.bean.validation.LongConstraint;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
+
+/**
+ * Constraint comparing the {@code long} values with the boundary, without boxing them.
+ *
+ * <p>Boxed values are verified by the {@link Bound bound} of the same kind, so they're verified the same way as by
+ * the equivalent {@link SimpleConstraint simple constraint}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+public final class LongBoundConstraint extends AbstractConstraint<Long> implements LongConstraint, BoundedConstraint {
+
+    private final Bound<Long> bound;
+
+    private final long boundary;
+
+    private final Bound.Kind kind;
+
+    private LongBoundConstraint(@Nonnull final String name, @Nonnull final Bound.Kind kind, final long boundary,
+                                final boolean active, @Nonnull final Object[] messageParameters, @Nullable final String message) {
+        super(name, active, messageParameters, message);
+
+        // Verify constructor requirements, ...
+        Objects.requireNonNull(name, "LongBoundConstraint name is required.");
+        Objects.requireNonNull(kind, "LongBoundConstraint kind is required.");
+        Objects.requireNonNull(messageParameters, "Invalid message parameters provided");
+
+        // ... and initialize this instance fields.
+        this.bound = Bound.of(kind, boundary);
+        this.boundary = boundary;
+        this.kind = kind;
+    }
+
+    /**
+     * Constructs new instance.
+     *
+     * @param name     name of the constraint
+     * @param kind     the kind of comparison
+     * @param boundary the boundary
+     */
+    public LongBoundConstraint(@Nonnull final String name, @Nonnull final Bound.Kind kind, final long boundary) {
+        this(name, kind, boundary, true, ZERO_LENGTH_ARRAY, null);
+    }
+
+    private boolean compare(final long candidate) {
+        final boolean result;
+        switch (kind) {
+            case GREATER_THAN:
+                result = candidate > boundary;
+                break;
+            case GREATER_THAN_OR_EQUAL_TO:
+                result = candidate >= boundary;
+                break;
+            case LESS_THAN:
+                result = candidate < boundary;
+                break;
+            default:
+                result = candidate <= boundary;
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        boolean result = (this == object);
+        if (!result && (object instanceof LongBoundConstraint)) {
+            final LongBoundConstraint other = (LongBoundConstraint) object;
+            result = Objects.equals(name, other.name) && bound.equals(other.bound);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Bound<Long> getBound() {
+        return bound;
+    }
+
+    /**
+     * @return a hash code value for this constraint
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongConstraint negate() {
+        return new LongBoundConstraint(getNegatedName(), kind.complement(), boundary);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(@Nullable final Long candidate) {
+        return !active || ((null == candidate) ? bound.test(null) : compare(candidate));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean testLong(final long candidate) {
+        return !active || compare(candidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder().append("Constraint '")
+                                  .append(bound)
+                                  .append('\'')
+                                  .toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public LongBoundConstraint when(final boolean active) {
+        return new LongBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public LongBoundConstraint withDescription(final String message, final Object... messageParameters) {
+        return new LongBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    @Nonnull
+    public LongBoundConstraint withMessageParameters(final Object... messageParameters) {
+        return new LongBoundConstraint(name, kind, boundary, active, messageParameters, message);
+    }
+
+}
@@ -0,0 +1,81 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import pl.ais.commons.bean.validation.Constraint;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Determinant of the constraint being negation of other constraint.
+ *
+ * <p>Unlike the lambda negating the constraint, it exposes the negated constraint, allowing the
+ * {@link CompiledConstraint constraint compiler} to push the negation down to the enclosed constraints, and the
+ * {@link ConstraintOptimizer constraint optimizer} to remove double negations.
+ *
+ * @param <T> the type of the values handled by the constraint
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+final class Negation<T> implements Predicate<T> {
+
+    private final Constraint<T> negated;
+
+    Negation(@Nonnull final Constraint<T> negated) {
+        this.negated = negated;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        return (this == object) || ((object instanceof Negation) && negated.equals(((Negation) object).negated));
+    }
+
+    /**
+     * @return the negated constraint
+     */
+    Constraint<T> getNegated() {
+        return negated;
+    }
+
+    /**
+     * @return a hash code value for this predicate
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(Negation.class, negated);
+    }
+
+    /**
+     * Creates and returns the negation of this negation, exposing the negated constraint, so it can be removed
+     * by the {@link ConstraintOptimizer constraint optimizer}.
+     *
+     * @return the negation of this negation
+     */
+    @Override
+    public Predicate<T> negate() {
+        return new Negation<>(new SimpleConstraint<>("negation", this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(@Nullable final T candidate) {
+        return !negated.test(candidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "not " + negated;
+    }
+
+}
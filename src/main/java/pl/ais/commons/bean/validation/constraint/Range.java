@@ -0,0 +1,66 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Determinant of the constraint verifying if the value is within the range, created by the
+ * {@link ConstraintOptimizer constraint optimizer} from the lower and upper {@link Bound bounds}.
+ *
+ * @param <T> the type of compared values
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+final class Range<T extends Comparable<? super T>> implements Predicate<T> {
+
+    private final Bound<T> lower;
+
+    private final Bound<T> upper;
+
+    Range(@Nonnull final Bound<T> lower, @Nonnull final Bound<T> upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        boolean result = (this == object);
+        if (!result && (object instanceof Range)) {
+            final Range<?> other = (Range<?>) object;
+            result = lower.equals(other.lower) && upper.equals(other.upper);
+        }
+        return result;
+    }
+
+    /**
+     * @return a hash code value for this range
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(lower, upper);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(@Nullable final T candidate) {
+        return lower.test(candidate) && upper.test(candidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return lower + " && " + upper;
+    }
+
+}
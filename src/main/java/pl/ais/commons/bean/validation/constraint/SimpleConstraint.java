@@ -20,7 +20,7 @@ public final class SimpleConstraint<T> extends AbstractConstraint<T> {
 
     private final Predicate<T> determinant;
 
-    private SimpleConstraint(@Nonnull final String name, @Nonnull final Predicate<T> determinant, final boolean active,
+    SimpleConstraint(@Nonnull final String name, @Nonnull final Predicate<T> determinant, final boolean active,
                              @Nonnull final Object[] messageParameters, @Nullable final String message) {
         super(name, active, messageParameters, message);
 
@@ -56,6 +56,13 @@ public final class SimpleConstraint<T> extends AbstractConstraint<T> {
         return result;
     }
 
+    /**
+     * @return the predicate being determinant of the constraint
+     */
+    Predicate<T> getDeterminant() {
+        return determinant;
+    }
+
     /**
      * @return a hash code value for this constraint
      */
@@ -64,9 +71,17 @@ public final class SimpleConstraint<T> extends AbstractConstraint<T> {
         return Objects.hash(name, determinant);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@link Bound Bounds} are negated into the complementary bounds, other determinants are negated structurally
+     * (see {@link Negation}), so the negations can be optimized later.
+     */
     @Override
     public Constraint<T> negate() {
-        return new SimpleConstraint<>(getNegatedName(), determinant.negate());
+        final Predicate<T> negated = ((determinant instanceof Bound) || (determinant instanceof Negation))
+            ? determinant.negate() : new Negation<>(active ? this : when(true));
+        return new SimpleConstraint<>(getNegatedName(), negated);
     }
 
     /**
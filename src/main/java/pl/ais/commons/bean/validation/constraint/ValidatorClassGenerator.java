@@ -0,0 +1,134 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.function.Predicate;
+
+/**
+ * Generates (using ASM) the bytecode of validator classes evaluating the programs of {@link CompiledConstraint
+ * compiled constraints}.
+ *
+ * <p>Generated class implements {@link Predicate}, holds the determinants of compiled constraint in separate final
+ * fields (initialized by the constructor accepting the array of determinants), and evaluates them using the jumps
+ * resolved at generation time. Each determinant is called from its own call site, which stays monomorphic, so the
+ * JIT compiler can inline the whole constraint. Generated class refers only to the public types, so it can be
+ * defined in any class loader (or as the hidden class, see {@link ValidatorClasses}).
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Immutable
+final class ValidatorClassGenerator implements Opcodes {
+
+    /**
+     * Maximum number of determinants evaluated by generated class, keeping its {@code test} method well below
+     * the method size limit.
+     */
+    static final int MAX_DETERMINANTS = 1024;
+
+    private static final String PREDICATE_DESCRIPTOR = Type.getDescriptor(Predicate.class);
+
+    private static final String PREDICATE_TYPE = Type.getInternalName(Predicate.class);
+
+    private ValidatorClassGenerator() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    private static String fieldName(final int index) {
+        return "determinant" + index;
+    }
+
+    /**
+     * Generates the bytecode of validator class evaluating given program.
+     *
+     * @param name        the binary name of generated class (in the package of this class)
+     * @param entry       index of the first determinant to be evaluated
+     * @param onSatisfied indexes of the determinants to be evaluated next, if the current one is satisfied
+     * @param onViolated  indexes of the determinants to be evaluated next, if the current one is violated
+     * @param accept      index of the pseudo-determinant accepting the candidate
+     * @return the bytecode of validator class
+     */
+    static byte[] generate(@Nonnull final String name, final int entry, @Nonnull final int[] onSatisfied,
+                           @Nonnull final int[] onViolated, final int accept) {
+        final String type = name.replace('.', '/');
+        final int length = onSatisfied.length;
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, type, null, "java/lang/Object", new String[] {PREDICATE_TYPE});
+
+        // Declare the field for each determinant, ...
+        for (int index = 0; index < length; index++) {
+            writer.visitField(ACC_PRIVATE | ACC_FINAL, fieldName(index), PREDICATE_DESCRIPTOR, null, null)
+                  .visitEnd();
+        }
+
+        // ... the constructor initializing them, ...
+        final MethodVisitor constructor = writer.visitMethod(ACC_PUBLIC, "<init>", "([" + PREDICATE_DESCRIPTOR + ")V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        for (int index = 0; index < length; index++) {
+            constructor.visitVarInsn(ALOAD, 0);
+            constructor.visitVarInsn(ALOAD, 1);
+            constructor.visitLdcInsn(index);
+            constructor.visitInsn(AALOAD);
+            constructor.visitFieldInsn(PUTFIELD, type, fieldName(index), PREDICATE_DESCRIPTOR);
+        }
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        // ... and the test method, evaluating the determinants.
+        final MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "test", "(Ljava/lang/Object;)Z", null, null);
+        method.visitCode();
+        final Label[] labels = new Label[length];
+        for (int index = 0; index < length; index++) {
+            labels[index] = new Label();
+        }
+        final Label accepted = new Label();
+        final Label rejected = new Label();
+        if (entry != 0) {
+            method.visitJumpInsn(GOTO, target(entry, labels, accept, accepted, rejected));
+        }
+        for (int index = 0; index < length; index++) {
+            method.visitLabel(labels[index]);
+            method.visitVarInsn(ALOAD, 0);
+            method.visitFieldInsn(GETFIELD, type, fieldName(index), PREDICATE_DESCRIPTOR);
+            method.visitVarInsn(ALOAD, 1);
+            method.visitMethodInsn(INVOKEINTERFACE, PREDICATE_TYPE, "test", "(Ljava/lang/Object;)Z", true);
+
+            // Fall through to the next determinant, if possible, jump to the determinant to be evaluated otherwise.
+            final int next = index + 1;
+            if (onSatisfied[index] == next) {
+                method.visitJumpInsn(IFEQ, target(onViolated[index], labels, accept, accepted, rejected));
+            } else if (onViolated[index] == next) {
+                method.visitJumpInsn(IFNE, target(onSatisfied[index], labels, accept, accepted, rejected));
+            } else {
+                method.visitJumpInsn(IFEQ, target(onViolated[index], labels, accept, accepted, rejected));
+                method.visitJumpInsn(GOTO, target(onSatisfied[index], labels, accept, accepted, rejected));
+            }
+        }
+        method.visitLabel(accepted);
+        method.visitInsn(ICONST_1);
+        method.visitInsn(IRETURN);
+        method.visitLabel(rejected);
+        method.visitInsn(ICONST_0);
+        method.visitInsn(IRETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static Label target(final int index, final Label[] labels, final int accept, final Label accepted,
+                                final Label rejected) {
+        return (index >= 0) ? labels[index] : ((accept == index) ? accepted : rejected);
+    }
+
+}
@@ -0,0 +1,49 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Defines the validator classes generated by {@link ValidatorClassGenerator}.
+ *
+ * <p>This (Java 8) version defines each validator class in its own class loader, so it can be unloaded once it's not
+ * used anymore. The version defining them as the hidden classes is provided by the multi-release JAR (see
+ * {@code src/main/java15}).
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+final class ValidatorClasses {
+
+    private ValidatorClasses() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Defines the validator class.
+     *
+     * @param name     the binary name of validator class (in the package of this class)
+     * @param bytecode the bytecode of validator class
+     * @return the validator class
+     */
+    static Class<?> define(@Nonnull final String name, @Nonnull final byte[] bytecode) {
+        return new ValidatorClassLoader(ValidatorClasses.class.getClassLoader()).define(name, bytecode);
+    }
+
+    /**
+     * Class loader defining single validator class.
+     */
+    private static final class ValidatorClassLoader extends ClassLoader {
+
+        private ValidatorClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        private Class<?> define(final String name, final byte[] bytecode) {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+
+    }
+
+}
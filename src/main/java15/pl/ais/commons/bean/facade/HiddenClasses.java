@@ -0,0 +1,54 @@
+package pl.ais.commons.bean.facade;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Defines the facade classes as the hidden classes, which can be unloaded (independently of their class loader) once
+ * they're not used anymore.
+ *
+ * <p>This is Java 15 version, using {@link MethodHandles.Lookup#defineHiddenClass(byte[], boolean,
+ * MethodHandles.Lookup.ClassOption...)}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+final class HiddenClasses {
+
+    private HiddenClasses() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Defines the hidden class in the package (and the class loader) of given class.
+     *
+     * @param host     the class determining the package and the class loader of hidden class
+     * @param bytecode the bytecode of hidden class
+     * @return the hidden class, or {@code null} if the hidden class cannot be defined in the package of given class
+     * (because the package is not open to this library)
+     */
+    @Nullable
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    static Class<?> define(@Nonnull final Class<?> host, @Nonnull final byte[] bytecode) {
+        Class<?> result;
+        try {
+            result = MethodHandles.privateLookupIn(host, MethodHandles.lookup())
+                                  .defineHiddenClass(bytecode, true)
+                                  .lookupClass();
+        } catch (final IllegalAccessException | SecurityException exception) {
+            result = null;
+        }
+        return result;
+    }
+
+    /**
+     * @return {@code true} if the hidden classes are supported, {@code false} otherwise
+     */
+    static boolean isSupported() {
+        return true;
+    }
+
+}
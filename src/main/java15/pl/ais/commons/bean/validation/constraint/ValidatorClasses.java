@@ -0,0 +1,42 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Defines the validator classes generated by {@link ValidatorClassGenerator}.
+ *
+ * <p>This is Java 15 version, defining them as the hidden classes (which final fields are trusted by the JIT
+ * compiler), using {@link MethodHandles.Lookup#defineHiddenClass(byte[], boolean,
+ * MethodHandles.Lookup.ClassOption...)}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@ThreadSafe
+final class ValidatorClasses {
+
+    private ValidatorClasses() {
+        throw new AssertionError("Creation of " + getClass().getName() + " instances is forbidden.");
+    }
+
+    /**
+     * Defines the validator class.
+     *
+     * @param name     the binary name of validator class (in the package of this class)
+     * @param bytecode the bytecode of validator class
+     * @return the validator class
+     */
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    static Class<?> define(@Nonnull final String name, @Nonnull final byte[] bytecode) {
+        try {
+            return MethodHandles.lookup()
+                                .defineHiddenClass(bytecode, true)
+                                .lookupClass();
+        } catch (final IllegalAccessException exception) {
+            throw new IllegalStateException("Unable to define validator class " + name + ".", exception);
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package pl.ais.commons.bean.domain.model;
+
+import pl.ais.commons.bean.facade.Facaded;
+
+import java.util.List;
+
+/**
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@Facaded
+public class Household {
+
+    private Person head;
+
+    private List<Person> members;
+
+    private String name;
+
+    public String describe() {
+        return name + " (" + ((null == members) ? 0 : members.size()) + ")";
+    }
+
+    public Person getHead() {
+        return head;
+    }
+
+    public List<Person> getMembers() {
+        return members;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isInhabited() {
+        return (null != members) && !members.isEmpty();
+    }
+
+    public void setHead(final Person head) {
+        this.head = head;
+    }
+
+    public void setMembers(final List<Person> members) {
+        this.members = members;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+}
@@ -0,0 +1,98 @@
+package pl.ais.commons.bean.facade;
+
+import org.junit.Test;
+import org.objenesis.ObjenesisStd;
+import pl.ais.commons.bean.domain.model.Activity;
+import pl.ais.commons.bean.domain.model.Person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pl.ais.commons.bean.domain.model.Activity.anActivity;
+
+/**
+ * Verifies {@link FacadeClassGenerator} expectations (facade classes are defined by regular class loader here, since
+ * hidden classes are used only on Java 15 and later).
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class FacadeClassGeneratorExpectations {
+
+    private static Person facadeOver(final Person person, final TraverseListener listener) throws Exception {
+        final String name = Person.class.getName() + "$$Facade";
+        final byte[] bytecode = FacadeClassGenerator.generate(Person.class, name);
+        final Class<?> facadeClass = new ClassLoader(Person.class.getClassLoader()) {
+
+            Class<?> define() {
+                return defineClass(name, bytecode, 0, bytecode.length);
+            }
+
+        }.define();
+
+        final Person result = (Person) new ObjenesisStd().newInstance(facadeClass);
+        ((GeneratedFacade) result).setFacadeCallback(new DelegatingMethodInterceptor(person, listener, Facade.optionsOf()));
+        return result;
+    }
+
+    /**
+     * Verifies if non-accessor method calls of generated facade are dispatched to the proxied instance.
+     */
+    @Test
+    public void shouldDispatchNonAccessorCalls() throws Exception {
+        final Person person = new Person();
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = facadeOver(person, listener);
+
+        facade.setHeight(180);
+        facade.setNotes("Some notes");
+
+        assertEquals(180, person.getHeight());
+        assertEquals("Some notes", person.getNotes());
+        assertEquals(person.hashCode(), facade.hashCode());
+    }
+
+    /**
+     * Verifies if accessor calls of generated facade are tracked down, and their results are proxied.
+     */
+    @Test
+    public void shouldTrackNestedPropertyAccess() throws Exception {
+        final Activity running = anActivity().named("Running").get();
+        final Person person = new Person();
+        person.setHeight(180);
+        person.setActivities(new ArrayList<>(Arrays.asList(anActivity().get(), running)));
+
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = facadeOver(person, listener);
+
+        assertTrue(facade instanceof GeneratedFacade);
+        assertEquals("Running", facade.getActivities().get(1).getName());
+        assertEquals("activities[1].name", listener.asPath());
+
+        assertEquals(180, facade.getHeight());
+        assertEquals("height", listener.asPath());
+    }
+
+    /**
+     * Verifies if the facade class is generated only for the classes it can extend.
+     */
+    @Test
+    public void shouldSupportInheritableClassesOnly() {
+        assertTrue(FacadeClassGenerator.supports(Person.class));
+        assertFalse(FacadeClassGenerator.supports(String.class));
+        assertFalse(FacadeClassGenerator.supports(Runnable.class));
+    }
+
+    /**
+     * Verifies if the facade class is not generated for the classes declaring non-public accessors (which are
+     * intercepted by the facades generated by CGLIB only).
+     */
+    @Test
+    public void shouldNotSupportClassesDeclaringNonPublicAccessors() {
+        assertFalse(FacadeClassGenerator.supports(FacadeExpectations.ProtectedAccessorHolder.class));
+    }
+
+}
@@ -0,0 +1,76 @@
+package pl.ais.commons.bean.facade;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pl.ais.commons.bean.domain.model.Person;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call cost of the facade method dispatch, compared to the plain and reflective getter call.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class FacadeDispatchBenchmark {
+
+    private Method accessor;
+
+    private Person facade;
+
+    private TraverseListener listener;
+
+    private Person person;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FacadeDispatchBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Benchmark
+    public String facadeGetter() {
+        try {
+            return facade.getName();
+        } finally {
+            listener.reset();
+        }
+    }
+
+    @Benchmark
+    public String plainGetter() {
+        return person.getName();
+    }
+
+    @Benchmark
+    public Object reflectiveGetter() throws IllegalAccessException, InvocationTargetException {
+        return accessor.invoke(person);
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        person = new Person();
+        person.setName("Eugene Smith");
+        listener = new TraverseListener();
+        facade = Facade.over(person, listener);
+        accessor = Person.class.getMethod("getName");
+    }
+
+}
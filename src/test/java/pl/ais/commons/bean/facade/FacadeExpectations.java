@@ -2,12 +2,18 @@ package pl.ais.commons.bean.facade;
 
 import org.junit.Test;
 import pl.ais.commons.bean.domain.model.DefaultName;
+import pl.ais.commons.bean.domain.model.Household;
 import pl.ais.commons.bean.domain.model.Name;
+import pl.ais.commons.bean.domain.model.Person;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -34,7 +40,75 @@ public class FacadeExpectations {
     }
 
     /**
-     * Verifies if fields declared by the class instance are copied to the created facade.
+     * Verifies if facade created for final class instance delegates the calls of implemented i-face methods.
+     */
+    @Test
+    public void shouldDelegateImplementedIfaceMethodCallsForFinalClass() {
+        final Name name = new DefaultName("John", "Smith");
+        final Name facade = Facade.over(name, new TraverseListener());
+        assertEquals("Smith", facade.getLastName());
+    }
+
+    /**
+     * Verifies if the proxy classes are prepared for all the concrete classes reachable from given class.
+     */
+    @Test
+    public void shouldPrewarmProxyClassesReachableFromGivenClass() {
+        assertEquals(3, Facade.prewarm(Household.class).getClassCount());
+    }
+
+    /**
+     * Verifies if the proxy classes prepared before are not reported as generated by subsequent prewarming.
+     */
+    @Test
+    public void shouldNotReportProxyClassesPreparedBeforeAsGenerated() {
+
+        // Given proxy classes prepared for the classes reachable from given class, ...
+        final PrewarmReport first = Facade.prewarm(Person.class);
+
+        // When we prewarm them again, ...
+        final PrewarmReport second = Facade.prewarm(Person.class);
+
+        // Then all of them should be prepared, but none of them should be generated again.
+        assertTrue(first.getGeneratedClassCount() <= first.getClassCount());
+        assertEquals(first.getClassCount(), second.getClassCount());
+        assertEquals(0, second.getGeneratedClassCount());
+    }
+
+    /**
+     * Verifies if the proxy classes are prepared using given executor.
+     */
+    @Test
+    public void shouldPrewarmProxyClassesUsingGivenExecutor() {
+        final AtomicInteger tasks = new AtomicInteger();
+        final PrewarmReport report = Facade.prewarm(task -> {
+            tasks.incrementAndGet();
+            ForkJoinPool.commonPool().execute(task);
+        }, Person.class);
+        assertEquals(2, report.getClassCount());
+        assertEquals(2, tasks.get());
+    }
+
+    /**
+     * Verifies if exception thrown by the proxied instance method is propagated as is by the facade.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void shouldPropagateExceptionThrownByInstanceMethod() {
+        final ValueHolder facade = Facade.over(new FailingValueHolder(), new TraverseListener());
+        facade.getInstanceValue();
+    }
+
+    /**
+     * Verifies if exception thrown by the proxied instance non-public method is propagated as is by the facade.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void shouldPropagateExceptionThrownByNonPublicInstanceMethod() {
+        final FailingValueHolder facade = Facade.over(new FailingValueHolder(), new TraverseListener());
+        facade.getProtectedValue();
+    }
+
+    /**
+     * Verifies if fields declared by the class instance (and its superclasses) are copied to the created facade.
      */
     @Test
     public void shouldCopyInstanceFieldsIntoFacade() {
@@ -49,7 +123,87 @@ public class FacadeExpectations {
         final ValueHolder facade = Facade.over(holder, new TraverseListener());
         assertEquals(holder.instanceValue, facade.instanceValue);
         assertEquals(holder.nestedInstance, facade.nestedInstance);
-        assertNull(((BaseValueHolder) facade).inheritedValue);
+        assertEquals(((BaseValueHolder) holder).inheritedValue, ((BaseValueHolder) facade).inheritedValue);
+    }
+
+    /**
+     * Verifies if delegate-only facade doesn't copy the instance fields, while still delegating the calls.
+     */
+    @Test
+    public void shouldNotCopyInstanceFieldsIntoDelegateOnlyFacade() {
+        final ValueHolder holder = new ValueHolder();
+        holder.setInstanceValue("Panzerkampfwagen");
+
+        final ValueHolder facade = Facade.over(holder, new TraverseListener(), FacadeOption.DELEGATE_ONLY);
+        assertNull(facade.instanceValue);
+        assertEquals(holder.getInstanceValue(), facade.getInstanceValue());
+    }
+
+    /**
+     * Verifies if delegate-only facade copies the instance fields, if they are accessed by final accessors.
+     */
+    @Test
+    public void shouldCopyInstanceFieldsIntoDelegateOnlyFacadeHavingFinalAccessors() {
+        final FinalAccessorHolder holder = new FinalAccessorHolder();
+        holder.value = "Schwimmwagen";
+
+        final FinalAccessorHolder facade = Facade.over(holder, new TraverseListener(), FacadeOption.DELEGATE_ONLY);
+        assertEquals(holder.getValue(), facade.getValue());
+    }
+
+    /**
+     * Verifies if non-public accessor calls are tracked down, and delegated to the proxied instance (regardless of
+     * the way the facade class is generated).
+     */
+    @Test
+    public void shouldDelegateNonPublicAccessorCalls() {
+        for (final FacadeOption[] options : new FacadeOption[][] {{}, {FacadeOption.DELEGATE_ONLY}}) {
+            final ProtectedAccessorHolder holder = new ProtectedAccessorHolder();
+            holder.setSecret("Enigma");
+
+            final TraverseListener listener = new TraverseListener();
+            final ProtectedAccessorHolder facade = Facade.over(holder, listener, options);
+            holder.setSecret("Lorenz");
+
+            assertEquals("Lorenz", facade.getSecret());
+            assertEquals("secret", listener.asPath());
+        }
+    }
+
+    /**
+     * Verifies if retargeted facade delegates the calls to the new instance, holding its state.
+     */
+    @Test
+    public void shouldCopyInstanceFieldsIntoRetargetedFacade() {
+        final ValueHolder holder = new ValueHolder();
+        holder.setInstanceValue("Panzerkampfwagen");
+        final ValueHolder facade = Facade.over(holder, new TraverseListener());
+
+        final ValueHolder other = new ValueHolder();
+        other.setInstanceValue("Sturmgeschutz");
+        Facade.retarget(facade, other, new TraverseListener());
+
+        assertEquals(other.instanceValue, facade.instanceValue);
+        assertEquals(other.getInstanceValue(), facade.getInstanceValue());
+    }
+
+    /**
+     * Verifies if retargeting the facade at instance of unrelated class is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectRetargetingFacadeAtInstanceOfUnrelatedClass() {
+        final ValueHolder facade = Facade.over(new ValueHolder(), new TraverseListener());
+        Facade.retarget(facade, new FinalAccessorHolder(), new TraverseListener());
+    }
+
+    /**
+     * Verifies if facades created for instances of the same class share the proxy class.
+     */
+    @Test
+    public void shouldReuseProxyClassForInstancesOfSameClass() {
+        final ValueHolder first = Facade.over(new ValueHolder(), new TraverseListener());
+        final ValueHolder second = Facade.over(new ValueHolder(), new TraverseListener());
+        assertSame(first.getClass(), second.getClass());
     }
 
     protected static class BaseValueHolder {
@@ -66,6 +220,43 @@ public class FacadeExpectations {
 
     }
 
+    public static class FailingValueHolder extends ValueHolder {
+
+        @Override
+        public String getInstanceValue() {
+            throw new IllegalStateException("Value is not available.");
+        }
+
+        protected String getProtectedValue() {
+            throw new IllegalStateException("Value is not available.");
+        }
+
+    }
+
+    public static class FinalAccessorHolder {
+
+        private String value;
+
+        public final String getValue() {
+            return value;
+        }
+
+    }
+
+    public static class ProtectedAccessorHolder {
+
+        private String secret;
+
+        protected String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(final String secret) {
+            this.secret = secret;
+        }
+
+    }
+
     public static class ValueHolder extends BaseValueHolder {
 
         private String instanceValue;
@@ -0,0 +1,78 @@
+package pl.ais.commons.bean.facade;
+
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies {@link FacadeMetrics} expectations.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class FacadeMetricsExpectations {
+
+    @After
+    public void disableInstanceMetrics() {
+        FacadeMetrics.setInstanceMetricsEnabled(false);
+        FacadeMetrics.unregisterMBean();
+    }
+
+    /**
+     * Verifies if the proxy class generation, and the facade creation are reflected by the metrics.
+     */
+    @Test
+    public void shouldRecordProxyClassGenerationAndFacadeCreation() {
+        FacadeMetrics.reset();
+        FacadeMetrics.setInstanceMetricsEnabled(true);
+
+        // When we create two facades of the class not proxied before, ...
+        Facade.over(new Sample(), new TraverseListener());
+        Facade.over(new Sample(), new TraverseListener());
+
+        // ... proxy class should be generated once, and both facades should be counted.
+        final FacadeMetricsSnapshot snapshot = FacadeMetrics.snapshot();
+        assertEquals(1, snapshot.getGeneratedClassCount());
+        assertEquals(Long.valueOf(1), snapshot.getGeneratedClassesPerType().get(Sample.class.getName()));
+        assertTrue(0 < snapshot.getEstimatedClassBytes());
+        assertEquals(2, snapshot.getProxyInstanceCount());
+        assertEquals(2, snapshot.getProxyClassLookupCount());
+    }
+
+    /**
+     * Verifies if the metrics are exposed through JMX, once the MBean is registered.
+     */
+    @Test
+    public void shouldExposeMetricsThroughMBean() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = FacadeMetrics.registerMBean();
+        assertTrue(server.isRegistered(name));
+        assertFalse("Registering MBean should not enable instance metrics.", FacadeMetrics.isInstanceMetricsEnabled());
+        assertEquals(FacadeMetrics.snapshot().getGeneratedClassCount(), server.getAttribute(name, "GeneratedClassCount"));
+
+        FacadeMetrics.unregisterMBean();
+        assertFalse(server.isRegistered(name));
+    }
+
+    public static class Sample {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package pl.ais.commons.bean.facade;
+
+import org.junit.After;
+import org.junit.Test;
+import pl.ais.commons.bean.domain.model.Activity;
+import pl.ais.commons.bean.domain.model.Person;
+import pl.ais.commons.bean.validation.ValidationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static pl.ais.commons.bean.domain.model.Activity.anActivity;
+import static pl.ais.commons.bean.validation.ValidationContext.validationOf;
+
+/**
+ * Verifies {@link FacadePool} expectations.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class FacadePoolExpectations {
+
+    private static Person personNamed(final String name, final String... activityNames) {
+        final Person person = new Person();
+        person.setName(name);
+        final List<Activity> activities = new ArrayList<>();
+        for (final String activityName : activityNames) {
+            activities.add(anActivity().named(activityName).get());
+        }
+        person.setActivities(activities);
+        return person;
+    }
+
+    @After
+    public void clearPool() {
+        FacadePool.clear();
+    }
+
+    /**
+     * Verifies if facade acquired while the other one is still in use is the new one.
+     */
+    @Test
+    public void shouldNotReuseFacadeBeingInUse() {
+        final Person first = FacadePool.acquire(personNamed("Eugene Smith"), new TraverseListener());
+        final Person second = FacadePool.acquire(personNamed("John Smith"), new TraverseListener());
+        assertNotSame(first, second);
+    }
+
+    /**
+     * Verifies if closing the validation context more than once doesn't make its subject pooled more than once.
+     */
+    @Test
+    public void shouldNotPoolSubjectOfValidationContextClosedTwice() {
+        final ValidationContext<Person> context = validationOf(personNamed("Eugene Smith")).poolingSubjects();
+        context.subject();
+        context.close();
+        context.close();
+
+        final Person first = FacadePool.acquire(personNamed("John Smith"), new TraverseListener());
+        final Person second = FacadePool.acquire(personNamed("Jane Smith"), new TraverseListener());
+        assertNotSame(first, second);
+    }
+
+    /**
+     * Verifies if the subject of validation context remains usable after closing the context, unless the subjects
+     * are pooled.
+     */
+    @Test
+    public void shouldNotPoolSubjectOfValidationContextByDefault() {
+        final ValidationContext<Person> context = validationOf(personNamed("Eugene Smith"));
+        final Person subject = context.subject();
+        context.close();
+
+        assertEquals("Eugene Smith", subject.getName());
+        assertNotSame(subject, FacadePool.acquire(personNamed("John Smith"), new TraverseListener()));
+    }
+
+    /**
+     * Verifies if released facade is retargeted at the new instance, when acquired again.
+     */
+    @Test
+    public void shouldRetargetReleasedFacade() {
+        final Person released = FacadePool.acquire(personNamed("Eugene Smith"), new TraverseListener());
+        FacadePool.release(released);
+
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = FacadePool.acquire(personNamed("John Smith"), listener);
+
+        assertSame(released, facade);
+        assertEquals("John Smith", facade.getName());
+        assertEquals("name", listener.asPath());
+    }
+
+    /**
+     * Verifies if the facades created for the values returned by released facade are reused as well.
+     */
+    @Test
+    public void shouldReuseNestedFacadesOfReleasedFacade() {
+        final Person released = FacadePool.acquire(personNamed("Eugene Smith", "Running"), new TraverseListener());
+        final Activity releasedActivity = released.getActivities().get(0);
+        FacadePool.release(released);
+
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = FacadePool.acquire(personNamed("John Smith", "Walking"), listener);
+        final Activity activity = facade.getActivities().get(0);
+
+        assertSame(releasedActivity, activity);
+        assertEquals("Walking", activity.getName());
+        assertEquals("activities[0].name", listener.asPath());
+    }
+
+}
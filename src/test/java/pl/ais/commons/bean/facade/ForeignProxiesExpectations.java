@@ -0,0 +1,146 @@
+package pl.ais.commons.bean.facade;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies the expectations regarding the facades built over the proxies created by other libraries.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class ForeignProxiesExpectations {
+
+    private static Entity byteBuddyProxy() throws ReflectiveOperationException {
+        return new ByteBuddy().subclass(Entity.class)
+                              .make()
+                              .load(Entity.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                              .getLoaded()
+                              .getConstructor()
+                              .newInstance();
+    }
+
+    /**
+     * Verifies if the facade built over ByteBuddy generated proxy extends the proxied class, and delegates to the
+     * proxy, without copying its state.
+     */
+    @Test
+    public void shouldDelegateToByteBuddyProxyWithoutCopyingItsState() throws ReflectiveOperationException {
+
+        // Given ByteBuddy generated proxy, and the facade built over it,
+        final Entity proxy = byteBuddyProxy();
+        proxy.setName("Winnie the Pooh");
+        final TraverseListener listener = new TraverseListener();
+        final Entity facade = Facade.over(proxy, listener);
+
+        // When we access the facade,
+        final String name = facade.getName();
+
+        // Then it should extend the proxied class, delegate to the proxy, and don't hold the proxy state.
+        assertSame("Facade should extend the proxied class.", Entity.class, facade.getClass().getSuperclass());
+        assertSame("Facade should be built over the proxy itself.", proxy, Facade.unwrap(facade));
+        assertEquals("Winnie the Pooh", name);
+        assertEquals("name", listener.asPath());
+        assertNull("Proxy state should not be copied into the facade.", facade.nameHeld());
+    }
+
+    /**
+     * Verifies if the paths are tracked down through ByteBuddy generated proxies returned by the accessors.
+     */
+    @Test
+    public void shouldTrackPathsThroughByteBuddyProxies() throws ReflectiveOperationException {
+
+        // Given the entity referring ByteBuddy generated proxy, and the facade built over the entity,
+        final Entity parent = new Entity();
+        parent.setParent(byteBuddyProxy());
+        final TraverseListener listener = new TraverseListener();
+        final Entity facade = Facade.over(parent, listener);
+
+        // When we access the property of referred proxy,
+        final Entity proxied = facade.getParent();
+        proxied.getName();
+
+        // Then its path should be tracked down, and the proxy should be proxied exactly once.
+        assertEquals("parent.name", listener.asPath());
+        assertSame(Entity.class, proxied.getClass().getSuperclass());
+        assertSame(parent.getParent(), Facade.unwrap(proxied));
+    }
+
+    /**
+     * Verifies if the paths are tracked down through JDK dynamic proxies returned by the accessors.
+     */
+    @Test
+    public void shouldTrackPathsThroughJdkProxies() {
+
+        // Given the entity referring JDK dynamic proxy, and the facade built over the entity,
+        final Entity entity = new Entity();
+        entity.setNamed((Named) Proxy.newProxyInstance(Named.class.getClassLoader(), new Class<?>[] {Named.class},
+            (proxy, method, args) -> "getName".equals(method.getName()) ? "Batman" : null));
+        final TraverseListener listener = new TraverseListener();
+        final Entity facade = Facade.over(entity, listener);
+
+        // When we access the property of referred proxy,
+        final Named named = facade.getNamed();
+        final String name = named.getName();
+
+        // Then its path should be tracked down by the facade implementing the proxied interface.
+        assertEquals("Batman", name);
+        assertEquals("named.name", listener.asPath());
+        assertFalse("JDK dynamic proxy should be proxied by the facade.", Proxy.isProxyClass(named.getClass()));
+        assertTrue(ForeignProxies.isForeignProxy(entity.getNamed().getClass()));
+    }
+
+    public interface Named {
+
+        String getName();
+
+    }
+
+    public static class Entity {
+
+        private String name;
+
+        private Named named;
+
+        private Entity parent;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public Named getNamed() {
+            return named;
+        }
+
+        public void setNamed(final Named named) {
+            this.named = named;
+        }
+
+        public Entity getParent() {
+            return parent;
+        }
+
+        public void setParent(final Entity parent) {
+            this.parent = parent;
+        }
+
+        final String nameHeld() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package pl.ais.commons.bean.facade;
+
+import org.junit.Test;
+import pl.ais.commons.bean.domain.model.Household;
+import pl.ais.commons.bean.domain.model.Person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies the expectations regarding facades generated at compile time.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class GeneratedFacadeExpectations {
+
+    private static Household aHousehold() {
+        final Person head = new Person();
+        head.setName("John Smith");
+        final Person member = new Person();
+        member.setName("Jane Smith");
+
+        final Household household = new Household();
+        household.setName("Smiths");
+        household.setHead(head);
+        household.setMembers(new ArrayList<>(Arrays.asList(head, member)));
+        return household;
+    }
+
+    /**
+     * Verifies if non-accessor method calls are dispatched to the proxied instance.
+     */
+    @Test
+    public void shouldDispatchNonAccessorCallsToProxiedInstance() {
+        final Household facade = Facade.over(aHousehold(), new TraverseListener(), FacadeOption.DELEGATE_ONLY);
+        assertEquals("Smiths (2)", facade.describe());
+    }
+
+    /**
+     * Verifies if delegate-only generated facade copies the state of proxied instance, if it has accessors which
+     * are not overridden by the facade (like non-public ones).
+     */
+    @Test
+    public void shouldCopyStateIntoDelegateOnlyFacadeNotOverridingAllAccessors() {
+        final SecretHolder holder = new SecretHolder();
+        holder.secret = "Enigma";
+
+        final SecretHolder facade = Facade.over(holder, new TraverseListener(), FacadeOption.DELEGATE_ONLY);
+        assertTrue(facade instanceof GeneratedFacade);
+        assertEquals("Enigma", facade.getSecret());
+    }
+
+    /**
+     * Verifies if generated facade can be retargeted at another instance.
+     */
+    @Test
+    public void shouldRetargetGeneratedFacade() {
+        final TraverseListener listener = new TraverseListener();
+        final Household facade = Facade.over(new Household(), new TraverseListener(), FacadeOption.DELEGATE_ONLY);
+        assertNull(facade.getName());
+
+        final Household retargeted = Facade.retarget(facade, aHousehold(), listener, FacadeOption.DELEGATE_ONLY);
+        assertSame(facade, retargeted);
+        assertEquals("Jane Smith", retargeted.getMembers().get(1).getName());
+        assertEquals("members[1].name", listener.asPath());
+    }
+
+    /**
+     * Verifies if accessor calls of generated facade are tracked down, and their results are proxied.
+     */
+    @Test
+    public void shouldTrackNestedPropertyAccess() {
+        final TraverseListener listener = new TraverseListener();
+        final Household facade = Facade.over(aHousehold(), listener);
+
+        assertEquals("John Smith", facade.getHead().getName());
+        assertEquals("head.name", listener.asPath());
+
+        assertTrue(facade.isInhabited());
+        assertEquals("inhabited", listener.asPath());
+    }
+
+    /**
+     * Verifies if the facade class generated at compile time is used for the class annotated with {@link Facaded}.
+     */
+    @Test
+    public void shouldUseFacadeClassGeneratedForAnnotatedClass() {
+        final Household facade = Facade.over(aHousehold(), new TraverseListener());
+        assertTrue(facade instanceof GeneratedFacade);
+        assertEquals(Household.class.getName() + "_Facade", facade.getClass().getName());
+    }
+
+    @Facaded
+    public static class SecretHolder {
+
+        private String secret;
+
+        protected String getSecret() {
+            return secret;
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+package pl.ais.commons.bean.facade;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies {@link LeafTypes} expectations.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class LeafTypesExpectations {
+
+    /**
+     * Unregisters the leaf types registered by the tests.
+     */
+    @After
+    public void resetLeafTypes() {
+        LeafTypes.reset();
+    }
+
+    /**
+     * Verifies if the values of default leaf types are not proxied, even if they could be.
+     */
+    @Test
+    public void shouldNotProxyDefaultLeafTypes() {
+        final Holder holder = new Holder();
+        holder.setDate(new Date());
+        holder.setAmount(new Amount("12.5"));
+
+        final Holder facade = Facade.over(holder, new TraverseListener());
+
+        assertTrue(LeafTypes.isLeaf(holder.getAmount().getClass()));
+        assertSame("Date should not be proxied.", holder.getDate(), facade.getDate());
+        assertSame("BigDecimal subclass should not be proxied.", holder.getAmount(), facade.getAmount());
+    }
+
+    /**
+     * Verifies if the values of registered leaf types are not proxied, even if they have been proxied before.
+     */
+    @Test
+    public void shouldNotProxyRegisteredLeafTypes() {
+        final Holder holder = new Holder();
+        holder.setValue(new Value());
+
+        // Value is proxied until its type is registered as the leaf type, ...
+        assertNotSame(holder.getValue(), Facade.over(holder, new TraverseListener()).getValue());
+        assertFalse(LeafTypes.isLeaf(Value.class));
+
+        // ... and it's not proxied anymore after registering it.
+        LeafTypes.register(Value.class);
+        assertTrue(LeafTypes.isLeaf(Value.class));
+        assertSame("Value of registered leaf type should not be proxied.", holder.getValue(),
+            Facade.over(holder, new TraverseListener()).getValue());
+
+        // Value is proxied again after resetting the registry.
+        LeafTypes.reset();
+        assertFalse(LeafTypes.isLeaf(Value.class));
+        assertNotSame(holder.getValue(), Facade.over(holder, new TraverseListener()).getValue());
+    }
+
+    public static class Amount extends BigDecimal {
+
+        private static final long serialVersionUID = 1L;
+
+        public Amount(final String value) {
+            super(value);
+        }
+
+    }
+
+    public static class Holder {
+
+        private BigDecimal amount;
+
+        private Date date;
+
+        private Value value;
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(final BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public Date getDate() {
+            return date;
+        }
+
+        public void setDate(final Date date) {
+            this.date = date;
+        }
+
+        public Value getValue() {
+            return value;
+        }
+
+        public void setValue(final Value value) {
+            this.value = value;
+        }
+
+    }
+
+    public static class Value {
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package pl.ais.commons.bean.facade;
+
+import org.junit.Test;
+import pl.ais.commons.bean.domain.model.Household;
+import pl.ais.commons.bean.domain.model.Person;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies {@link MethodInfo} expectations.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class MethodInfoExpectations {
+
+    /**
+     * Verifies if the accessors are classified properly, and the segment names are derived from their names.
+     */
+    @Test
+    public void shouldClassifyAccessors() throws NoSuchMethodException {
+        final MethodInfo accessor = MethodInfo.of(Person.class.getMethod("getDateOfBirth"));
+        assertEquals(MethodInfo.Kind.ACCESSOR, accessor.getKind());
+        assertEquals("dateOfBirth", accessor.getSegmentName());
+        assertTrue(accessor.isIntercepted());
+
+        final MethodInfo booleanAccessor = MethodInfo.of(Household.class.getMethod("isInhabited"));
+        assertEquals(MethodInfo.Kind.BOOLEAN_ACCESSOR, booleanAccessor.getKind());
+        assertEquals("inhabited", booleanAccessor.getSegmentName());
+
+        final MethodInfo elementAccessor = MethodInfo.of(List.class.getMethod("get", int.class));
+        assertEquals(MethodInfo.Kind.ELEMENT_ACCESSOR, elementAccessor.getKind());
+        assertNull(elementAccessor.getSegmentName());
+        assertTrue(elementAccessor.isIntercepted());
+    }
+
+    /**
+     * Verifies if the mutators, and the methods being neither accessors nor mutators are classified properly.
+     */
+    @Test
+    public void shouldClassifyNonAccessors() throws NoSuchMethodException {
+        final MethodInfo mutator = MethodInfo.of(Person.class.getMethod("setNotes", String.class));
+        assertEquals(MethodInfo.Kind.MUTATOR, mutator.getKind());
+        assertEquals("notes", mutator.getSegmentName());
+        assertFalse(mutator.isIntercepted());
+
+        final MethodInfo other = MethodInfo.of(Household.class.getMethod("describe"));
+        assertEquals(MethodInfo.Kind.IGNORED, other.getKind());
+        assertFalse(other.isIntercepted());
+    }
+
+    /**
+     * Verifies if the method is classified once.
+     */
+    @Test
+    public void shouldClassifyMethodOnce() throws NoSuchMethodException {
+        assertSame(MethodInfo.of(Person.class.getMethod("getName")), MethodInfo.of(Person.class.getMethod("getName")));
+    }
+
+}
@@ -0,0 +1,69 @@
+package pl.ais.commons.bean.facade;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies {@link PropertyPath} expectations.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class PropertyPathExpectations {
+
+    private static final PropertyPath PATH = PropertyPath.root()
+                                                         .property("activities")
+                                                         .element(1)
+                                                         .property("colleagues")
+                                                         .element("John/Jack")
+                                                         .property("name");
+
+    /**
+     * Verifies if the paths built independently, but having the same segments, are equal.
+     */
+    @Test
+    public void shouldBeEqualToPathHavingSameSegments() {
+        final PropertyPath other = PropertyPath.parse("activities[1].colleagues['John/Jack'].name");
+        assertEquals(PATH, other);
+        assertEquals(PATH.hashCode(), other.hashCode());
+        assertNotEquals(PATH, PropertyPath.parse("activities[2].colleagues['John/Jack'].name"));
+    }
+
+    /**
+     * Verifies if the path is rendered properly in all the standard formats.
+     */
+    @Test
+    public void shouldRenderPathInStandardFormats() {
+        assertEquals("activities[1].colleagues['John/Jack'].name", PATH.render(PathFormat.BEAN_PATH));
+        assertEquals("$.activities[1].colleagues['John/Jack'].name", PATH.render(PathFormat.JSON_PATH));
+        assertEquals("/activities/1/colleagues/John~1Jack/name", PATH.render(PathFormat.JSON_POINTER));
+    }
+
+    /**
+     * Verifies if the path is resolved properly against another path.
+     */
+    @Test
+    public void shouldResolveRelativePath() {
+        final PropertyPath base = PropertyPath.parse("activities[1]");
+        final PropertyPath relative = PropertyPath.parse("colleagues['John/Jack'].name");
+        assertEquals(PropertyPath.parse("activities[1].colleagues"), base.resolve(relative).getParent().getParent());
+        assertEquals(PATH, base.resolve(relative));
+        assertSame(base, base.resolve(PropertyPath.root()));
+    }
+
+    /**
+     * Verifies if the paths to the elements of the same collection share the path to the collection.
+     */
+    @Test
+    public void shouldShareParentPath() {
+        final PropertyPath activities = PropertyPath.root().property("activities");
+        assertSame(activities, activities.element(0).getParent());
+        assertSame(activities, activities.element(1).getParent());
+        assertTrue(activities.getParent().isRoot());
+    }
+
+}
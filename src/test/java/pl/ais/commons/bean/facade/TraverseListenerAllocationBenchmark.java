@@ -0,0 +1,82 @@
+package pl.ais.commons.bean.facade;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pl.ais.commons.bean.domain.model.Person;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost (and the memory allocated, when run with GC profiler, as done by {@link #main(String[])}) of
+ * recording the property path by the traverse listener. Recording the path should not allocate any memory, it's
+ * allocated only when the path is rendered.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class TraverseListenerAllocationBenchmark {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private Method elementAccessor;
+
+    private Object[] elementArguments;
+
+    private TraverseListener listener;
+
+    private Method nestedAccessor;
+
+    private Method propertyAccessor;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TraverseListenerAllocationBenchmark.class.getSimpleName())
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+
+    @Benchmark
+    public void recordPath() {
+        listener.onMethodCall(null, propertyAccessor, NO_ARGUMENTS);
+        listener.onMethodCall(null, elementAccessor, elementArguments);
+        listener.onMethodCall(null, nestedAccessor, NO_ARGUMENTS);
+        listener.reset();
+    }
+
+    @Benchmark
+    public String recordAndRenderPath() {
+        listener.onMethodCall(null, propertyAccessor, NO_ARGUMENTS);
+        listener.onMethodCall(null, elementAccessor, elementArguments);
+        listener.onMethodCall(null, nestedAccessor, NO_ARGUMENTS);
+        return listener.asPath();
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        listener = new TraverseListener();
+        propertyAccessor = Person.class.getMethod("getActivities");
+        elementAccessor = List.class.getMethod("get", int.class);
+        elementArguments = new Object[] {1};
+        nestedAccessor = Person.class.getMethod("getName");
+    }
+
+}
@@ -5,11 +5,19 @@ import org.junit.Test;
 import pl.ais.commons.bean.domain.model.Activity;
 import pl.ais.commons.bean.domain.model.Person;
 
+import net.sf.cglib.proxy.Factory;
+
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
+import static java.util.Arrays.asList;
 import static pl.ais.commons.bean.domain.model.Activity.anActivity;
 
 /**
@@ -132,4 +140,236 @@ public class TraverseListenerExpectations {
         Assert.assertEquals("Traverse listener should point to the accessed property.", "activities[1].start", listener.asPath());
     }
 
+    /**
+     * Verifies if the traverse listener will ignore the calls of methods being neither accessors nor element accessors.
+     */
+    @Test
+    public void shouldIgnoreNonAccessorMethodCalls() {
+
+        // Given bean instance, bean property traverse listener, and facade built over the bean.
+        final Person person = new Person();
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = Facade.over(person, listener);
+
+        // When we call some mutator and other methods before accessing simple facade's property
+        facade.setNotes("Some notes");
+        facade.hashCode();
+        facade.getNotes();
+
+        // Then the listener should provide us with an access to the property path, and mutator should be delegated.
+        Assert.assertEquals("Traverse listener should point to the accessed property.", "notes", listener.asPath());
+        Assert.assertEquals("Mutator call should be delegated to the bean.", "Some notes", person.getNotes());
+    }
+
+    /**
+     * Verifies if the number of facades memoized per accessor is limited.
+     */
+    @Test
+    public void shouldLimitNumberOfFacadesMemoizedPerAccessor() {
+
+        // Given bean having a lot of activities, and facade built over the bean.
+        final Person person = new Person();
+        final List<Activity> activities = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            activities.add(anActivity().get());
+        }
+        person.setActivities(activities);
+
+        final Person facade = Facade.over(person, new TraverseListener());
+
+        // When we access all the activities twice,
+        final List<Activity> first = new ArrayList<>();
+        final List<Activity> second = new ArrayList<>();
+        for (int index = 0; index < activities.size(); index++) {
+            first.add(facade.getActivities().get(index));
+        }
+        for (int index = 0; index < activities.size(); index++) {
+            second.add(facade.getActivities().get(index));
+        }
+
+        // Then only facades created for the first activities should be reused.
+        Assert.assertSame("Facade created for the first activity should be reused.", first.get(0), second.get(0));
+        Assert.assertNotSame("Facade created for the last activity should not be memoized.", first.get(99), second.get(99));
+    }
+
+    /**
+     * Verifies if the facade will reuse the facade created for the value returned by the same accessor.
+     */
+    @Test
+    public void shouldReuseFacadeCreatedForValueReturnedBySameAccessor() {
+
+        // Given bean instance, bean property traverse listener, and facade built over the bean.
+        final Person person = new Person();
+        final List<Activity> activities = new ArrayList<>();
+        activities.add(anActivity().get());
+        person.setActivities(activities);
+
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = Facade.over(person, listener);
+
+        // When we access the same nested facade's property twice
+        final List<Activity> first = facade.getActivities();
+        listener.reset();
+        final List<Activity> second = facade.getActivities();
+        second.get(0);
+
+        // Then the same nested facade should be returned, and the listener should track the access properly.
+        Assert.assertSame("Facade created for the same value should be reused.", first, second);
+        Assert.assertEquals("Traverse listener should point to the accessed property.", "activities[0]", listener.asPath());
+    }
+
+    /**
+     * Verifies if the shared facade with thread-confined traverse listener will track the paths separately for each thread.
+     */
+    @Test
+    public void shouldTrackPathsSeparatelyForEachThreadUsingSharedFacade() throws Exception {
+
+        // Given bean instance, thread-confined traverse listener, and shared facade built over the bean.
+        final Person person = new Person();
+        final List<Activity> activities = new ArrayList<>();
+        activities.add(anActivity().get());
+        activities.add(anActivity().get());
+        person.setActivities(activities);
+
+        final TraverseListener listener = TraverseListener.threadConfined(PropertyPath.parse("person"));
+        final Person facade = Facade.over(person, listener, FacadeOption.SHARED);
+
+        // When two threads access different properties of the facade concurrently, ...
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Boolean> first = executor.submit(() -> {
+                boolean tracked = true;
+                for (int i = 0; i < 10_000; i++) {
+                    facade.getActivities().get(1).getStart();
+                    tracked &= "person.activities[1].start".equals(listener.asPath());
+                }
+                return tracked;
+            });
+            final Future<Boolean> second = executor.submit(() -> {
+                boolean tracked = true;
+                for (int i = 0; i < 10_000; i++) {
+                    facade.getNotes();
+                    tracked &= "person.notes".equals(listener.asPath());
+                }
+                return tracked;
+            });
+
+            // ... then each thread should get the path to the property accessed by itself.
+            Assert.assertTrue("First thread should get the path to the property accessed by itself.", first.get());
+            Assert.assertTrue("Second thread should get the path to the property accessed by itself.", second.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Verifies if the traverse listener will track the access to the list elements being iterated over.
+     */
+    @Test
+    public void shouldTrackListIteration() {
+
+        // Given bean instance, bean property traverse listener, and facade built over the bean.
+        final Person person = new Person();
+        final List<Activity> activities = new ArrayList<>();
+        activities.add(anActivity().get());
+        activities.add(anActivity().get());
+        person.setActivities(activities);
+
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = Facade.over(person, listener);
+
+        // When we iterate over the list elements, accessing their properties
+        final List<String> paths = new ArrayList<>();
+        for (final Activity activity : facade.getActivities()) {
+            activity.getStart();
+            paths.add(listener.asPath());
+        }
+
+        // Then the listener should point to the properties of subsequent elements.
+        Assert.assertEquals("Traverse listener should point to the accessed properties.",
+            asList("activities[0].start", "activities[1].start"), paths);
+    }
+
+    /**
+     * Verifies if the traverse listener will track the access to the list elements being streamed.
+     */
+    @Test
+    public void shouldTrackListStreaming() {
+
+        // Given bean instance, bean property traverse listener, and facade built over the bean.
+        final Person person = new Person();
+        final List<Activity> activities = new ArrayList<>();
+        activities.add(anActivity().get());
+        activities.add(anActivity().get());
+        person.setActivities(activities);
+
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = Facade.over(person, listener);
+
+        // When we stream the list elements, accessing their properties
+        final List<String> paths = facade.getActivities()
+                                         .stream()
+                                         .map(activity -> {
+                                             activity.getName();
+                                             return listener.asPath();
+                                         })
+                                         .collect(Collectors.toList());
+
+        // Then the listener should point to the properties of subsequent elements.
+        Assert.assertEquals("Traverse listener should point to the accessed properties.",
+            asList("activities[0].name", "activities[1].name"), paths);
+    }
+
+    /**
+     * Verifies if the traverse listener will track the access to the map values being iterated over.
+     */
+    @Test
+    public void shouldTrackMapValuesIteration() {
+
+        // Given bean instance, bean property traverse listener, and facade built over the bean.
+        final Person person = new Person();
+        final Map<String, Activity> activities = new LinkedHashMap<>();
+        activities.put("morning", anActivity().get());
+        activities.put("evening", anActivity().get());
+        person.setActivitiesMap(activities);
+
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = Facade.over(person, listener);
+
+        // When we iterate over the map values, accessing their properties
+        final List<String> paths = new ArrayList<>();
+        for (final Activity activity : facade.getActivitiesMap().values()) {
+            activity.getStart();
+            paths.add(listener.asPath());
+        }
+
+        // Then the listener should point to the properties of subsequent values.
+        Assert.assertEquals("Traverse listener should point to the accessed properties.",
+            asList("activitiesMap['morning'].start", "activitiesMap['evening'].start"), paths);
+    }
+
+    /**
+     * Verifies if the list returned by the facade is decorated (instead of being proxied), and can be unwrapped.
+     */
+    @Test
+    public void shouldDecorateListInsteadOfProxyingIt() {
+
+        // Given bean instance, bean property traverse listener, and facade built over the bean.
+        final Person person = new Person();
+        final List<Activity> activities = new ArrayList<>();
+        activities.add(anActivity().get());
+        person.setActivities(activities);
+
+        final TraverseListener listener = new TraverseListener();
+        final Person facade = Facade.over(person, listener);
+
+        // When we access the list property
+        final List<Activity> decorated = facade.getActivities();
+
+        // Then the list should be decorated, and unwrapping it should provide the list itself.
+        Assert.assertFalse("List should not be proxied.", decorated instanceof Factory);
+        Assert.assertSame("Unwrapped decorator should be the list itself.", activities, Facade.unwrap(decorated));
+        Assert.assertSame("Unwrapped facade should be the bean itself.", person, Facade.unwrap(facade));
+    }
+
 }
@@ -0,0 +1,81 @@
+package pl.ais.commons.bean.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static pl.ais.commons.bean.validation.Constraints.allOf;
+import static pl.ais.commons.bean.validation.Constraints.anyOf;
+import static pl.ais.commons.bean.validation.Constraints.compile;
+import static pl.ais.commons.bean.validation.Constraints.greaterThan;
+import static pl.ais.commons.bean.validation.Constraints.isEqual;
+import static pl.ais.commons.bean.validation.Constraints.lessThan;
+import static pl.ais.commons.bean.validation.Constraints.not;
+import static pl.ais.commons.bean.validation.Constraints.specialize;
+
+/**
+ * Measures the cost of evaluating the nested constraint tree, compared to the constraint compiled from it, and the
+ * constraint evaluated by the validator class generated for it.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class ConstraintEvaluationBenchmark {
+
+    private Constraint<Integer> compiled;
+
+    private Constraint<Integer> specialized;
+
+    private Constraint<Integer> tree;
+
+    private Integer value;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ConstraintEvaluationBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Benchmark
+    public boolean compiledConstraint() {
+        return compiled.test(value);
+    }
+
+    @Benchmark
+    public boolean constraintTree() {
+        return tree.test(value);
+    }
+
+    @Benchmark
+    public boolean specializedConstraint() {
+        return specialized.test(value);
+    }
+
+    @Setup
+    public void setUp() {
+        tree = anyOf(
+            allOf(greaterThan(10), not(anyOf(isEqual(12), isEqual(15))), lessThan(20), isEqual(11).when(false)),
+            not(allOf(greaterThan(-5), lessThan(5))),
+            allOf(greaterThan(100), not(isEqual(150)), lessThan(200)));
+        compiled = compile(tree);
+        specialized = specialize(tree);
+        value = 3;
+    }
+
+}
@@ -0,0 +1,139 @@
+package pl.ais.commons.bean.validation;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import pl.ais.commons.bean.domain.model.Person;
+import pl.ais.commons.bean.validation.constrainable.ConstrainableValue;
+import pl.ais.commons.bean.validation.event.ConstraintViolated;
+import pl.ais.commons.bean.validation.event.ValidationListener;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static pl.ais.commons.bean.validation.Constraints.greaterThan;
+import static pl.ais.commons.bean.validation.Constraints.greaterThanDouble;
+import static pl.ais.commons.bean.validation.Constraints.greaterThanInt;
+import static pl.ais.commons.bean.validation.Constraints.greaterThanLong;
+import static pl.ais.commons.bean.validation.Constraints.greaterThanOrEqualTo;
+import static pl.ais.commons.bean.validation.Constraints.greaterThanOrEqualToDouble;
+import static pl.ais.commons.bean.validation.Constraints.greaterThanOrEqualToInt;
+import static pl.ais.commons.bean.validation.Constraints.greaterThanOrEqualToLong;
+import static pl.ais.commons.bean.validation.Constraints.lessThan;
+import static pl.ais.commons.bean.validation.Constraints.lessThanDouble;
+import static pl.ais.commons.bean.validation.Constraints.lessThanInt;
+import static pl.ais.commons.bean.validation.Constraints.lessThanLong;
+import static pl.ais.commons.bean.validation.Constraints.lessThanOrEqualTo;
+import static pl.ais.commons.bean.validation.Constraints.lessThanOrEqualToDouble;
+import static pl.ais.commons.bean.validation.Constraints.lessThanOrEqualToInt;
+import static pl.ais.commons.bean.validation.Constraints.lessThanOrEqualToLong;
+import static pl.ais.commons.bean.validation.ValidationContext.validationOf;
+
+/**
+ * Verifies the behaviour of {@link IntConstraint}, {@link LongConstraint} and {@link DoubleConstraint} constraints.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class PrimitiveConstraintExpectations {
+
+    /**
+     * Verifies if the double constraints compare the values the same way as {@link Double#compareTo(Double)}.
+     */
+    @Test
+    public void doubleConstraintsShouldCompareValuesLikeBoxedOnes() {
+        final double[] values = {Double.NEGATIVE_INFINITY, -1.5d, -0.0d, 0.0d, 1.5d, Double.POSITIVE_INFINITY, Double.NaN};
+        for (final double boundary : values) {
+
+            // Given double constraints, ...
+            final DoubleConstraint[] constraints = {greaterThanDouble(boundary), greaterThanOrEqualToDouble(boundary),
+                lessThanDouble(boundary), lessThanOrEqualToDouble(boundary)};
+
+            // When we verify the values against them, ...
+            for (final double value : values) {
+                final int comparison = Double.valueOf(value).compareTo(boundary);
+                final boolean[] expected = {comparison > 0, comparison >= 0, comparison < 0, comparison <= 0};
+
+                // Then the values should be compared the same way as the boxed ones.
+                for (int index = 0; index < constraints.length; index++) {
+                    Assert.assertEquals(value + " compared with " + boundary, expected[index], constraints[index].testDouble(value));
+                    Assert.assertEquals(value + " compared with " + boundary, expected[index], constraints[index].test(value));
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifies if the int and long constraints verify the values the same way as the constraints of boxed values.
+     */
+    @Test
+    public void integralConstraintsShouldVerifyValuesLikeBoxedOnes() {
+
+        // Given int and long constraints, and the equivalent constraints of boxed values, ...
+        final IntConstraint[] intConstraints = {greaterThanInt(5), greaterThanOrEqualToInt(5), lessThanInt(5),
+            lessThanOrEqualToInt(5)};
+        final LongConstraint[] longConstraints = {greaterThanLong(5L), greaterThanOrEqualToLong(5L), lessThanLong(5L),
+            lessThanOrEqualToLong(5L)};
+        final Integer boundary = 5;
+        @SuppressWarnings("unchecked") final Constraint<Integer>[] boxedConstraints = new Constraint[]{greaterThan(boundary),
+            greaterThanOrEqualTo(boundary), lessThan(boundary), lessThanOrEqualTo(boundary)};
+
+        // When we verify the values against them, ...
+        for (int value = 0; value <= 10; value++) {
+            for (int index = 0; index < intConstraints.length; index++) {
+
+                // Then the values should be verified the same way (also by negated and inactive constraints).
+                final boolean expected = boxedConstraints[index].test(value);
+                Assert.assertEquals(expected, intConstraints[index].testInt(value));
+                Assert.assertEquals(expected, longConstraints[index].testLong(value));
+                Assert.assertEquals(!expected, intConstraints[index].negate().testInt(value));
+                Assert.assertTrue(intConstraints[index].when(false).testInt(value));
+            }
+        }
+    }
+
+    /**
+     * Verifies if the constraint violation is reported for the primitive value, with the path to the value.
+     */
+    @Test
+    public void shouldReportConstraintViolationOfPrimitiveValue() {
+
+        // Given person being 150 cm tall, ...
+        final Person entity = new Person();
+        entity.setHeight(150);
+
+        final ValidationListener listener = Mockito.mock(ValidationListener.class);
+
+        try (final ValidationContext<Person> validateThat = validationOf(entity).observedBy(listener)) {
+            final Person subject = validateThat.subject();
+
+            // When we verify if the height is within the range, ...
+            final IntValidatable height = validateThat.valueOfInt(subject.getHeight());
+            final IntConstraint tallEnough = greaterThanOrEqualToInt(160);
+            final boolean satisfied = height.satisfies(tallEnough);
+
+            // Then the constraint should be violated, and the violation reported for the height.
+            Assert.assertFalse(satisfied);
+            final ConstrainableValue<?> reported = (ConstrainableValue<?>) height.get();
+            Assert.assertEquals("height", reported.getId());
+            Assert.assertEquals(150, reported.getValue());
+            verify(listener).constraintViolated(new ConstraintViolated(tallEnough, height.get()));
+            verifyNoMoreInteractions(listener);
+        }
+    }
+
+    /**
+     * Verifies if the values (and boundaries) of other primitive types are still boxed to their own wrapper types.
+     */
+    @Test
+    public void otherPrimitiveTypesShouldBeBoxedToTheirWrapperTypes() {
+        final short shortValue = 5;
+
+        try (final ValidationContext<Person> validateThat = validationOf(new Person())) {
+            final Validatable<Short> value = validateThat.valueOf(shortValue);
+            final Constraint<Character> constraint = greaterThan('a');
+            Assert.assertTrue(value.satisfies(greaterThan((short) 4)));
+            Assert.assertTrue(constraint.test('b'));
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package pl.ais.commons.bean.validation;
+
+import org.junit.Test;
+import pl.ais.commons.bean.domain.model.Person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static pl.ais.commons.bean.validation.Property.path;
+
+/**
+ * Verifies {@link Property} expectations.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class PropertyExpectations {
+
+    /**
+     * Verifies if path to the nested property is determined from the chain of accessors.
+     */
+    @Test
+    public void shouldDetermineNestedPropertyPath() {
+        final Property<Person, Boolean> property = path(Person::getName).then(String::isEmpty);
+        assertEquals("name.empty", property.getPath());
+    }
+
+    /**
+     * Verifies if path to the property is determined from the accessor.
+     */
+    @Test
+    public void shouldDeterminePropertyPath() {
+        assertEquals("dateOfBirth", path(Person::getDateOfBirth).getPath());
+    }
+
+    /**
+     * Verifies if the value of nested property is read from the object.
+     */
+    @Test
+    public void shouldReadNestedPropertyValue() {
+        final Person person = new Person();
+        person.setName("Eugene Smith");
+        assertEquals(Boolean.FALSE, path(Person::getName).then(String::isEmpty).valueOf(person));
+    }
+
+    /**
+     * Verifies if the value of nested property is undefined, if any property on the path to it is undefined.
+     */
+    @Test
+    public void shouldReadUndefinedNestedPropertyValueAsNull() {
+        assertNull(path(Person::getName).then(String::isEmpty).valueOf(new Person()));
+    }
+
+    /**
+     * Verifies if the method reference to the method being not an accessor is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectMethodReferenceToNonAccessorMethod() {
+        path(Person::toString);
+    }
+
+}
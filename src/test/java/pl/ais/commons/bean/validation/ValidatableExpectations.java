@@ -1,9 +1,24 @@
 package pl.ais.commons.bean.validation;
 
 import org.junit.Test;
+import org.mockito.Mockito;
 import pl.ais.commons.bean.domain.model.Activity;
+import pl.ais.commons.bean.domain.model.Person;
+import pl.ais.commons.bean.facade.FacadeOption;
+import pl.ais.commons.bean.validation.constrainable.Constrainable;
+import pl.ais.commons.bean.validation.constrainable.ConstrainableValue;
+import pl.ais.commons.bean.validation.constrainable.ConstrainableVisitor;
+import pl.ais.commons.bean.validation.event.ValidationListener;
 
+import javax.annotation.Nonnull;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static pl.ais.commons.bean.domain.model.Activity.anActivity;
 import static pl.ais.commons.bean.validation.Constraints.required;
 import static pl.ais.commons.bean.validation.ValidationContext.validationOf;
@@ -20,6 +35,139 @@ public class ValidatableExpectations {
         return Constraints.constraint("my", candidate -> {throw new NullPointerException("Ha!"); });
     }
 
+    /**
+     * Verifies if {@code null} value can be validated (without being mistaken for the property accessor).
+     */
+    @Test
+    public void nullValueShouldBeValidatedAsValue() {
+        try (final ValidationContext<Activity> validateThat = validationOf(anActivity().get())) {
+            assertFalse(validateThat.valueOf(null).satisfies(required()));
+        }
+    }
+
+    /**
+     * Verifies if the values held at once keep their paths, also after verifying the constraints against them.
+     */
+    @Test
+    public void valuesHeldAtOnceShouldKeepTheirPaths() {
+
+        // Given person having the name and notes, ...
+        final Person person = new Person();
+        person.setName("John");
+        person.setNotes("Some notes");
+
+        try (final ValidationContext<Person> validateThat = validationOf(person)) {
+            final Person subject = validateThat.subject();
+
+            // When we obtain both values, and verify the constraints against them, ...
+            final Validatable<String> name = validateThat.valueOf(subject.getName());
+            final Validatable<String> notes = validateThat.valueOf(subject.getNotes());
+            assertTrue(notes.satisfies(required()));
+            assertTrue(name.satisfies(required()));
+
+            // Then both values should provide the paths to them.
+            assertNotSame(name, notes);
+            assertEquals("name", ((ConstrainableValue<?>) name.get()).getId());
+            assertEquals("notes", ((ConstrainableValue<?>) notes.get()).getId());
+        }
+    }
+
+    /**
+     * Verifies if the constraint overriding {@link Constraint#apply(Constrainable, ValidationListener)} is verified
+     * the way it defines.
+     */
+    @Test
+    public void constraintOverridingApplyShouldBeVerifiedByIt() {
+
+        // Given constraint overriding the apply method (to be never satisfied, without reporting the violation), ...
+        final UnsatisfiableConstraint<String> constraint = new UnsatisfiableConstraint<>(required());
+        final ValidationListener listener = Mockito.mock(ValidationListener.class);
+
+        try (final ValidationContext<Activity> validateThat = validationOf(anActivity().get()).observedBy(listener)) {
+
+            // When we verify the value against it, ...
+            final boolean satisfied = validateThat.valueOf("Walking").satisfies(constraint);
+
+            // Then it should be verified by the apply method.
+            assertFalse(satisfied);
+            assertEquals(1, constraint.applications);
+            verifyZeroInteractions(listener);
+        }
+    }
+
+    /**
+     * Verifies if the constrainable implementing only {@link Constrainable#apply(Constraint)} can be validated.
+     */
+    @Test
+    public void constrainableImplementingApplyOnlyShouldBeValidated() {
+
+        // Given constrainable implementing only the apply method, ...
+        final Constrainable<String> constrainable = new Constrainable<String>() {
+
+            @Override
+            public <R> R accept(@Nonnull final ConstrainableVisitor<R> visitor) {
+                return null;
+            }
+
+            @Override
+            public Boolean apply(final Constraint<? super String> constraint) {
+                return constraint.test("Walking");
+            }
+
+        };
+
+        // When we verify it against the constraint, then it should be verified by the apply method.
+        assertTrue(Validatable.validatable(constrainable, event -> { }, null).satisfies(required()));
+    }
+
+    /**
+     * Verifies if the value of the context shared by multiple threads provides the path to it in another thread.
+     */
+    @Test
+    public void valueOfSharedContextShouldProvidePathInAnotherThread() {
+
+        // Given person having the name, and the context shared by multiple threads, ...
+        final Person person = new Person();
+        person.setName("John");
+
+        try (final ValidationContext<Person> validateThat = validationOf(person, FacadeOption.SHARED)) {
+            final Validatable<String> name = validateThat.valueOf(validateThat.subject().getName());
+
+            // When we request the constrainable value in another thread, ...
+            final String id = supplyAsync(() -> ((ConstrainableValue<?>) name.get()).getId()).join();
+
+            // Then it should provide the path to the value.
+            assertEquals("name", id);
+        }
+    }
+
+    /**
+     * Verifies if the values are reused by the validation context only if requested.
+     */
+    @Test
+    public void valuesShouldBeReusedOnlyIfRequested() {
+        final Person person = new Person();
+        person.setName("John");
+
+        // Given validation context not reusing the values, ...
+        try (final ValidationContext<Person> validateThat = validationOf(person)) {
+            final Validatable<String> name = validateThat.valueOf(validateThat.subject().getName());
+            assertTrue(name.satisfies(required()));
+
+            // Then the value verified before should not be reused.
+            assertNotSame(name, validateThat.valueOf(validateThat.subject().getName()));
+        }
+
+        // Given validation context reusing the values, ...
+        try (final ValidationContext<Person> validateThat = validationOf(person).reusingValues()) {
+            final Validatable<String> name = validateThat.valueOf(validateThat.subject().getName());
+            assertTrue(name.satisfies(required()));
+
+            // Then the value verified before should be reused.
+            assertSame(name, validateThat.valueOf(validateThat.subject().getName()));
+        }
+    }
+
     @Test
     public void satisfiesShouldStopEvaluatingConstraintsOnFirstViolation() {
         final Activity activity = anActivity().get();
@@ -31,4 +179,82 @@ public class ValidatableExpectations {
         }
     }
 
+    /**
+     * Constraint overriding the apply method to be never satisfied, delegating other methods to given constraint.
+     *
+     * @param <T> the type of the values verified by the constraint
+     */
+    private static final class UnsatisfiableConstraint<T> implements Constraint<T> {
+
+        private final Constraint<T> delegate;
+
+        private int applications;
+
+        UnsatisfiableConstraint(final Constraint<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Constraint<T> and(@Nonnull final Constraint<T> other) {
+            return delegate.and(other);
+        }
+
+        @Override
+        public Boolean apply(final Constrainable<? extends T> constrainable, final ValidationListener listener) {
+            applications++;
+            return Boolean.FALSE;
+        }
+
+        @Override
+        public String getMessage() {
+            return delegate.getMessage();
+        }
+
+        @Override
+        public Object[] getMessageParameters() {
+            return delegate.getMessageParameters();
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public boolean isActive() {
+            return delegate.isActive();
+        }
+
+        @Override
+        public Constraint<T> negate() {
+            return delegate.negate();
+        }
+
+        @Override
+        public Constraint<T> or(@Nonnull final Constraint<T> other) {
+            return delegate.or(other);
+        }
+
+        @Override
+        public boolean test(final T candidate) {
+            return delegate.test(candidate);
+        }
+
+        @Override
+        public Constraint<T> when(final boolean active) {
+            return delegate.when(active);
+        }
+
+        @Override
+        public Constraint<T> withDescription(@Nonnull final String message, final Object... messageParameters) {
+            return delegate.withDescription(message, messageParameters);
+        }
+
+        @Override
+        public Constraint<T> withMessageParameters(final Object... messageParameters) {
+            return delegate.withMessageParameters(messageParameters);
+        }
+
+    }
+
 }
@@ -0,0 +1,125 @@
+package pl.ais.commons.bean.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pl.ais.commons.bean.domain.model.Person;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static pl.ais.commons.bean.validation.Constraints.allOf;
+import static pl.ais.commons.bean.validation.Constraints.fitInto;
+import static pl.ais.commons.bean.validation.Constraints.greaterThan;
+import static pl.ais.commons.bean.validation.Constraints.greaterThanInt;
+import static pl.ais.commons.bean.validation.Constraints.notBlank;
+import static pl.ais.commons.bean.validation.Constraints.required;
+import static pl.ais.commons.bean.validation.ValidationContext.validationOf;
+
+/**
+ * Measures the cost (and the memory allocated, when run with GC profiler, as done by {@link #main(String[])}) of
+ * verifying the constraint satisfied by the value (reused by the validation context). Verifying such constraint
+ * should not allocate any memory, path to the value is determined only when the constraint is violated, the results
+ * of the (composite) constraints are not boxed (see {@link Constraint#check}), and neither are the primitive values
+ * verified against the primitive constraints.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class ValidationAllocationBenchmark {
+
+    private Constraint<Integer> boxedHeightConstraint;
+
+    private Constraint<String> compositeConstraint;
+
+    private Constraint<Object> constraint;
+
+    private ValidationContext<Person> context;
+
+    private IntConstraint heightConstraint;
+
+    private Constraint<String> nameConstraint;
+
+    private Person subject;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValidationAllocationBenchmark.class.getSimpleName())
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+
+    @Benchmark
+    public boolean satisfiedByAccessedProperty() {
+        return context.valueOfProperty(Person::getName)
+                      .satisfies(constraint);
+    }
+
+    @Benchmark
+    public boolean satisfiedByAllConstraints() {
+        return context.valueOf(subject.getName())
+                      .satisfies(constraint, nameConstraint);
+    }
+
+    @Benchmark
+    public boolean satisfiedByBoxedSubjectProperty() {
+        return context.valueOf(Integer.valueOf(subject.getHeight()))
+                      .satisfies(boxedHeightConstraint);
+    }
+
+    @Benchmark
+    public boolean satisfiedByCompositeConstraint() {
+        return context.valueOf(subject.getName())
+                      .satisfies(compositeConstraint);
+    }
+
+    @Benchmark
+    public boolean satisfiedByPrimitiveSubjectProperty() {
+        return context.valueOfInt(subject.getHeight())
+                      .satisfies(heightConstraint);
+    }
+
+    @Benchmark
+    public boolean satisfiedBySubjectProperty() {
+        return context.valueOf(subject.getName())
+                      .satisfies(constraint);
+    }
+
+    @Setup
+    public void setUp() {
+        final Person person = new Person();
+        person.setName("Eugene Smith");
+        person.setDateOfBirth(LocalDate.of(1980, 1, 1));
+        person.setHeight(180);
+        boxedHeightConstraint = greaterThan(Integer.valueOf(150));
+        compositeConstraint = allOf(required(), notBlank(), fitInto(64));
+        constraint = required();
+        heightConstraint = greaterThanInt(150);
+        nameConstraint = fitInto(64);
+        context = validationOf(person).reusingValues();
+        subject = context.subject();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+}
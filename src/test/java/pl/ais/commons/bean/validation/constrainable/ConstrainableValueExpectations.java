@@ -0,0 +1,44 @@
+package pl.ais.commons.bean.validation.constrainable;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pl.ais.commons.bean.facade.PropertyPath;
+
+/**
+ * Verifies the behaviour of {@link ConstrainableValue}.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class ConstrainableValueExpectations {
+
+    /**
+     * Verifies if the constrainable value identified by the property path is equal to the constrainable value
+     * identified by the ID being the same path, and has the same hash code.
+     */
+    @Test
+    public void valueIdentifiedByPathShouldBeEqualToValueIdentifiedBySamePathRendered() {
+
+        // Given constrainable values identified by the property path, and by the ID being the same path rendered, ...
+        final ConstrainableValue<String> identifiedByPath = new ConstrainableValue<>(
+            PropertyPath.root().property("activities").element(1).property("name"), "Swimming");
+        final ConstrainableValue<String> identifiedById = new ConstrainableValue<>("activities[1].name", "Swimming");
+
+        // When we compare them, ...
+        final boolean equal = identifiedByPath.equals(identifiedById);
+
+        // Then they should be equal, and should have the same hash code.
+        Assert.assertTrue(equal);
+        Assert.assertEquals(identifiedByPath.hashCode(), identifiedById.hashCode());
+    }
+
+    /**
+     * Verifies if the hash code of constrainable value identified by the ID not being the property path is determined.
+     */
+    @Test
+    public void shouldDetermineHashCodeOfValueIdentifiedByAnyId() {
+        final ConstrainableValue<String> value = new ConstrainableValue<>("not a [path", "Swimming");
+        Assert.assertEquals(value.hashCode(), new ConstrainableValue<>("not a [path", "Swimming").hashCode());
+    }
+
+}
@@ -0,0 +1,149 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pl.ais.commons.bean.domain.model.Person;
+import pl.ais.commons.bean.validation.Constraint;
+import pl.ais.commons.bean.validation.Constraints;
+import pl.ais.commons.bean.validation.ValidationContext;
+import pl.ais.commons.bean.validation.constrainable.ConstrainableValue;
+import pl.ais.commons.bean.validation.event.ConstraintViolated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static pl.ais.commons.bean.validation.Constraints.allOf;
+import static pl.ais.commons.bean.validation.Constraints.anyOf;
+import static pl.ais.commons.bean.validation.Constraints.compile;
+import static pl.ais.commons.bean.validation.Constraints.greaterThan;
+import static pl.ais.commons.bean.validation.Constraints.isEqual;
+import static pl.ais.commons.bean.validation.Constraints.lessThan;
+import static pl.ais.commons.bean.validation.Constraints.not;
+import static pl.ais.commons.bean.validation.Constraints.specialize;
+import static pl.ais.commons.bean.validation.ValidationContext.validationOf;
+
+/**
+ * Verifies {@link CompiledConstraint} expectations.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class CompiledConstraintExpectations {
+
+    /**
+     * Verifies if compiled constraint is satisfied by the same values as the constraint tree it has been compiled
+     * from, including nested negations, and inactive constraints.
+     */
+    @Test
+    public void compiledConstraintShouldBeEquivalentToConstraintTree() {
+
+        // Given constraint tree, built of nested conjunctions, disjunctions, negations and inactive constraints, ...
+        final Constraint<Integer> tree = anyOf(
+            allOf(greaterThan(10), not(anyOf(isEqual(12), isEqual(15))), lessThan(20)),
+            not(allOf(greaterThan(-5), lessThan(5), isEqual(3).when(false))),
+            isEqual(7).when(false),
+            not(anyOf(isEqual(0), isEqual(1)).when(true)).when(false));
+
+        // When we compile it,
+        final Constraint<Integer> compiled = compile(tree);
+
+        // Then compiled constraint should be satisfied by the same values.
+        for (int value = -10; value <= 25; value++) {
+            Assert.assertEquals("Compiled constraint should match the tree for " + value, tree.test(value),
+                compiled.test(value));
+            Assert.assertEquals("Negated compiled constraint should match the negated tree for " + value,
+                tree.negate().test(value), compiled.negate().test(value));
+        }
+    }
+
+    /**
+     * Verifies if compiled constraint having no active constraints enclosed behaves like the constraint tree.
+     */
+    @Test
+    public void compiledConstraintShouldHandleInactiveConstraintsOnly() {
+
+        // Given conjunction and disjunction enclosing only inactive constraints,
+        final Constraint<Integer> conjunction = allOf(isEqual(1).when(false), isEqual(2).when(false));
+        final Constraint<Integer> disjunction = anyOf(isEqual(1).when(false), isEqual(2).when(false));
+
+        // When we compile them, then they should be satisfied by the same values as the source constraints.
+        Assert.assertTrue(compile(conjunction).test(3));
+        Assert.assertFalse(compile(disjunction).test(3));
+        Assert.assertFalse(compile(not(conjunction)).test(3));
+        Assert.assertTrue(compile(not(disjunction)).test(3));
+    }
+
+    /**
+     * Verifies if specialized constraint (evaluated by generated validator class) is satisfied by the same values
+     * as the constraint tree it has been generated for.
+     */
+    @Test
+    public void specializedConstraintShouldBeEquivalentToConstraintTree() {
+
+        // Given constraint tree, built of nested conjunctions, disjunctions and negations, ...
+        final Constraint<Integer> tree = anyOf(
+            allOf(greaterThan(10), not(anyOf(isEqual(12), isEqual(15))), lessThan(20)),
+            not(allOf(greaterThan(-5), lessThan(5), isEqual(3).when(false))));
+
+        // When we specialize it,
+        final Constraint<Integer> specialized = specialize(tree);
+
+        // Then specialized constraint (and its negation) should be satisfied by the same values.
+        final Constraint<Integer> negated = specialized.negate();
+        for (int value = -10; value <= 25; value++) {
+            Assert.assertEquals("Specialized constraint should match the tree for " + value, tree.test(value),
+                specialized.test(value));
+            Assert.assertEquals("Negated specialized constraint should match the negated tree for " + value,
+                tree.negate().test(value), negated.test(value));
+        }
+        Assert.assertTrue(specialize(allOf(isEqual(1).when(false))).test(3));
+        Assert.assertFalse(specialize(anyOf(isEqual(1).when(false))).test(3));
+    }
+
+    /**
+     * Verifies if compiled constraint reports the violations of the constraint it has been compiled from.
+     */
+    @Test
+    public void compiledConstraintShouldReportViolationsOfSourceConstraint() {
+
+        // Given compiled constraint, described by the message, ...
+        final Constraint<Integer> source = allOf(greaterThan(0), lessThan(10)).withDescription("out of range");
+        final Constraint<Integer> compiled = compile(source);
+
+        // ... when we apply it to the value violating it,
+        final List<ConstraintViolated> events = new ArrayList<>();
+        final Boolean result = compiled.apply(new ConstrainableValue<>("value", 15), events::add);
+
+        // Then violation of the source constraint should be reported.
+        Assert.assertFalse(result);
+        Assert.assertEquals(1, events.size());
+        Assert.assertSame(source, events.get(0).getSource());
+        Assert.assertEquals("out of range", compiled.getMessage());
+    }
+
+    /**
+     * Verifies if compiled conjunction is evaluated at once (as the whole program, in which the duplicated constraints
+     * are evaluated once) against the value of validation context.
+     */
+    @Test
+    public void compiledConstraintShouldBeEvaluatedAtOnceAgainstValueOfValidationContext() {
+
+        // Given compiled conjunction enclosing the same (counting) constraint twice, ...
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Constraint<String> counted = Constraints.constraint("counted", candidate -> 0 < evaluations.incrementAndGet());
+        final Constraint<String> compiled = compile(allOf(counted, counted));
+
+        final Person person = new Person();
+        person.setName("John");
+
+        // When we verify the value of validation context against it, ...
+        try (final ValidationContext<Person> validateThat = validationOf(person)) {
+            Assert.assertTrue(validateThat.valueOf(validateThat.subject().getName()).satisfies(compiled));
+        }
+
+        // Then the whole program should be evaluated at once (instead of enclosed constraints one by one).
+        Assert.assertEquals(1, evaluations.get());
+    }
+
+}
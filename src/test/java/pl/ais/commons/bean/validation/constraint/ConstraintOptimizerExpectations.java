@@ -0,0 +1,119 @@
+package pl.ais.commons.bean.validation.constraint;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pl.ais.commons.bean.validation.Constraint;
+import pl.ais.commons.bean.validation.constrainable.ConstrainableValue;
+import pl.ais.commons.bean.validation.event.ConstraintViolated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static pl.ais.commons.bean.validation.Constraints.allOf;
+import static pl.ais.commons.bean.validation.Constraints.anyOf;
+import static pl.ais.commons.bean.validation.Constraints.greaterThan;
+import static pl.ais.commons.bean.validation.Constraints.isEqual;
+import static pl.ais.commons.bean.validation.Constraints.lessThan;
+import static pl.ais.commons.bean.validation.Constraints.lessThanOrEqualTo;
+import static pl.ais.commons.bean.validation.Constraints.not;
+import static pl.ais.commons.bean.validation.Constraints.required;
+import static pl.ais.commons.bean.validation.constraint.ConstraintOptimizer.optimize;
+
+/**
+ * Verifies {@link ConstraintOptimizer} expectations.
+ *
+ * @author Warlock, AIS.PL
+ * @since 1.4.3
+ */
+public class ConstraintOptimizerExpectations {
+
+    private static void assertEquivalent(final Constraint<Integer> expected, final Constraint<Integer> actual) {
+        Assert.assertEquals("Optimized constraint should keep the name.", expected.getName(), actual.getName());
+        for (int value = -5; value <= 25; value++) {
+            Assert.assertEquals("Optimized constraint should be satisfied by the same values, including " + value,
+                expected.test(value), actual.test(value));
+        }
+    }
+
+    /**
+     * Verifies if the lower and upper bounds enclosed by the conjunction are merged into the range check, keeping only
+     * the strictest bounds.
+     */
+    @Test
+    public void shouldMergeBoundsIntoRange() {
+
+        // Given conjunction of the bounds, ...
+        final Constraint<Integer> conjunction = greaterThan(5).and(lessThanOrEqualTo(10))
+                                                              .and(greaterThan(7));
+
+        // When we optimize it,
+        final Constraint<Integer> optimized = optimize(conjunction);
+
+        // Then it should be replaced with the range check, described the same way.
+        Assert.assertTrue(optimized instanceof SimpleConstraint);
+        Assert.assertTrue(((SimpleConstraint<Integer>) optimized).getDeterminant() instanceof Range);
+        assertEquivalent(conjunction, optimized);
+    }
+
+    /**
+     * Verifies if double negations are removed.
+     */
+    @Test
+    public void shouldRemoveDoubleNegations() {
+
+        // Given doubly negated simple and composite constraints, ...
+        final Constraint<Integer> simple = not(not(isEqual(3)));
+        final Constraint<Integer> composite = not(not(anyOf(isEqual(3), isEqual(5))));
+
+        // When we optimize them,
+        final Constraint<Integer> optimizedSimple = optimize(simple);
+        final Constraint<Integer> optimizedComposite = optimize(composite);
+
+        // Then negations should be removed.
+        Assert.assertFalse(((SimpleConstraint<Integer>) optimizedSimple).getDeterminant() instanceof Negation);
+        Assert.assertTrue(optimizedComposite instanceof AnyOfConstraint);
+        assertEquivalent(simple, optimizedSimple);
+        assertEquivalent(composite, optimizedComposite);
+    }
+
+    /**
+     * Verifies if inactive and duplicated constraints are dropped, and the disjunction enclosing single constraint is
+     * replaced with this constraint.
+     */
+    @Test
+    public void shouldDropInactiveAndDuplicatedConstraints() {
+
+        // Given disjunction enclosing inactive and duplicated constraints, ...
+        final Constraint<Integer> disjunction = anyOf(isEqual(1).when(false), required(), required(),
+            anyOf(required(), lessThan(-100).when(false)));
+
+        // When we optimize it,
+        final Constraint<Integer> optimized = optimize(disjunction);
+
+        // Then it should be replaced with single constraint.
+        Assert.assertTrue(optimized instanceof SimpleConstraint);
+        assertEquivalent(disjunction, optimized);
+        Assert.assertFalse(optimized.test(null));
+    }
+
+    /**
+     * Verifies if optimized constraint reports the violations under the original name and message.
+     */
+    @Test
+    public void shouldReportViolationsUnderOriginalName() {
+
+        // Given conjunction of the bounds, described by the message, and optimized, ...
+        final Constraint<Integer> original = allOf(greaterThan(0), lessThan(10)).withDescription("out of range");
+        final Constraint<Integer> optimized = optimize(original);
+
+        // When we apply it to the value violating it,
+        final List<ConstraintViolated> events = new ArrayList<>();
+        optimized.apply(new ConstrainableValue<>("value", 15), events::add);
+
+        // Then the violation should be reported under the original name and message.
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(original.getName(), events.get(0).getSource().getName());
+        Assert.assertEquals("out of range", events.get(0).getSource().getMessage());
+    }
+
+}
@@ -5,6 +5,7 @@ import org.mockito.Mockito;
 import org.springframework.validation.Errors;
 import pl.ais.commons.bean.domain.model.Activity;
 import pl.ais.commons.bean.domain.model.Person;
+import pl.ais.commons.bean.validation.Validatable;
 import pl.ais.commons.bean.validation.ValidationContext;
 import pl.ais.commons.bean.validation.event.ValidationListener;
 
@@ -70,6 +71,31 @@ public class SpringValidationListenerExpectations {
         Mockito.verifyNoMoreInteractions(errors);
     }
 
+    @Test
+    public void shouldReportInvalidCollectionElementPropertyAccessedByMethodReferenceAsFieldError() {
+        final Person person = new Person();
+
+        final List<Activity> activities = new ArrayList<>();
+        activities.add(anActivity().named("Running").get());
+        activities.add(anActivity().get());
+        person.setActivities(activities);
+
+        final Errors errors = Mockito.mock(Errors.class);
+        final ValidationListener listener = new SpringValidationListener(errors);
+
+        try (final ValidationContext<Person> validateThat = validationOf(person).observedBy(listener)) {
+            final Person subject = validateThat.subject();
+
+            validateThat.forEach(subject.getActivities(), validateThatActivity -> {
+                validateThatActivity.valueOfProperty(Activity::getName)
+                                    .satisfies(required());
+            });
+        }
+
+        verify(errors, times(1)).rejectValue("activities[1].name", "required", new Object[0], null);
+        Mockito.verifyNoMoreInteractions(errors);
+    }
+
     @Test
     public void shouldReportInvalidCollectionElementAsFieldError() {
         final Person person = new Person();
@@ -124,6 +150,54 @@ public class SpringValidationListenerExpectations {
         Mockito.verifyNoMoreInteractions(errors);
     }
 
+    /**
+     * Verifies if constraint violations are reported with proper paths, when the values are verified in other order
+     * than the order in which they have been obtained.
+     */
+    @Test
+    public void shouldReportInvalidPropertiesVerifiedOutOfOrderAsFieldErrors() {
+        final Person person = new Person();
+
+        final Errors errors = Mockito.mock(Errors.class);
+        final ValidationListener listener = new SpringValidationListener(errors);
+
+        try (final ValidationContext<Person> validateThat = validationOf(person).observedBy(listener)) {
+            final Person subject = validateThat.subject();
+
+            final Validatable<String> name = validateThat.valueOf(subject.getName());
+            final Validatable<String> notes = validateThat.valueOf(subject.getNotes());
+            notes.satisfies(notBlank());
+            name.satisfies(required());
+            validateThat.valueOf(subject.getDateOfBirth())
+                        .satisfies(required());
+        }
+
+        verify(errors, times(1)).rejectValue("notes", "notBlank", new Object[0], null);
+        verify(errors, times(1)).rejectValue("name", "required", new Object[0], null);
+        verify(errors, times(1)).rejectValue("dateOfBirth", "required", new Object[0], null);
+        Mockito.verifyNoMoreInteractions(errors);
+    }
+
+    /**
+     * Verifies if constraint violated by property value, accessed by method reference, is reported as field error.
+     */
+    @Test
+    public void shouldReportInvalidPropertyAccessedByMethodReferenceAsFieldError() {
+        final Person person = new Person();
+        person.setName("Eugene Smith");
+
+        final Errors errors = Mockito.mock(Errors.class);
+        final ValidationListener listener = new SpringValidationListener(errors);
+
+        try (final ValidationContext<Person> validateThat = validationOf(person).observedBy(listener)) {
+            validateThat.valueOfProperty(Person::getNotes)
+                        .satisfies(notBlank().withDescription("Notes should be defined!"));
+        }
+
+        verify(errors, times(1)).rejectValue("notes", "notBlank", new Object[0], "Notes should be defined!");
+        Mockito.verifyNoMoreInteractions(errors);
+    }
+
     /**
      * Verifies if constraint violated by property value is reported as field error.
      */